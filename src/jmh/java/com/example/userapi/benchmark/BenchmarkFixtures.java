@@ -0,0 +1,64 @@
+package com.example.userapi.benchmark;
+
+import com.example.userapi.application.dto.PhoneDTO;
+import com.example.userapi.application.dto.RegisterUserRequest;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+/**
+ * Datos y objetos compartidos por los benchmarks, con los mismos valores de application.properties
+ */
+final class BenchmarkFixtures {
+
+    static final String EMAIL_REGEXP = "^[a-z]+@[a-z]+\\.[a-z]{2,}$";
+    static final String PASSWORD_REGEXP = "^(?=.*[A-Z])(?=.*[a-z])(?=.*\\d.*\\d)[A-Za-z\\d]{8,}$";
+    static final String JWT_SECRET = "miClaveSecretaSuperSeguraParaJWT2025DebeSerLargaYCompleja";
+    static final String PASSWORD = "Hunter22";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtTokenProvider jwtTokenProvider(long verificationCacheMaxSize) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", JWT_SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 86400000L);
+        ReflectionTestUtils.setField(provider, "verificationCacheMaxSize", verificationCacheMaxSize);
+        return provider;
+    }
+
+    static JwtTokenProvider jwtTokenProvider(long verificationCacheMaxSize, String signingAlgorithm,
+                                             boolean fastPathEnabled) {
+        JwtTokenProvider provider = jwtTokenProvider(verificationCacheMaxSize);
+        ReflectionTestUtils.setField(provider, "signingAlgorithm", signingAlgorithm);
+        ReflectionTestUtils.setField(provider, "fastPathEnabled", fastPathEnabled);
+        return provider;
+    }
+
+    static RegisterUserRequest registerRequest(String email) {
+        return RegisterUserRequest.builder()
+                .name("Juan Rodriguez")
+                .email(email)
+                .password(PASSWORD)
+                .phones(List.of(PhoneDTO.builder()
+                        .number("1234567")
+                        .citycode("1")
+                        .contrycode("57")
+                        .build()))
+                .build();
+    }
+
+    /**
+     * Email unico que cumple la expresion por defecto (solo letras minusculas)
+     */
+    static String uniqueEmail(long sequence) {
+        StringBuilder local = new StringBuilder("user");
+        long value = sequence;
+        do {
+            local.append((char) ('a' + (value % 26)));
+            value /= 26;
+        } while (value > 0);
+        return local.append("@bench.org").toString();
+    }
+}
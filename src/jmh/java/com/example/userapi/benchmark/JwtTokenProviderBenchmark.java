@@ -0,0 +1,64 @@
+package com.example.userapi.benchmark;
+
+import com.example.userapi.domain.model.User;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generacion y validacion de JWT. {@code validateTokenUncached} usa un proveedor sin cache
+ * de verificacion para medir el costo completo (Base64, JSON y firma) de un token nuevo.
+ * {@code fastPath=false} emite con el builder de jjwt, para comparar contra {@link
+ * com.example.userapi.infrastructure.security.JwtTokenProvider} con el emisor rapido.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"HS256", "ES256", "EdDSA"})
+    private String signingAlgorithm;
+
+    @Param({"true", "false"})
+    private boolean fastPath;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenProvider uncachedJwtTokenProvider;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = BenchmarkFixtures.jwtTokenProvider(10_000, signingAlgorithm, fastPath);
+        uncachedJwtTokenProvider = BenchmarkFixtures.jwtTokenProvider(0, signingAlgorithm, fastPath);
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .email("juan@rodriguez.org")
+                .build();
+        token = jwtTokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        return uncachedJwtTokenProvider.validateToken(token);
+    }
+}
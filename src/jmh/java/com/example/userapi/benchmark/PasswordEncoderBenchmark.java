@@ -0,0 +1,64 @@
+package com.example.userapi.benchmark;
+
+import com.example.userapi.infrastructure.config.PasswordHashingConfig;
+import com.example.userapi.infrastructure.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordEncoder de la aplicacion (PasswordHashingConfig) con el costo por defecto de cada
+ * algoritmo, sin calibracion para que los resultados sean comparables entre maquinas
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    @Param({"bcrypt", "argon2", "pbkdf2"})
+    public String encoder;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        PasswordHashingConfig config = new PasswordHashingConfig();
+        ReflectionTestUtils.setField(config, "encodingId", encoder);
+        ReflectionTestUtils.setField(config, "calibrationEnabled", false);
+        ReflectionTestUtils.setField(config, "bcryptStrength", 10);
+        ReflectionTestUtils.setField(config, "argon2Iterations", 2);
+        ReflectionTestUtils.setField(config, "pbkdf2Iterations", 310000);
+        ReflectionTestUtils.setField(config, "hashingThreads", 1);
+        ReflectionTestUtils.setField(config, "hashingQueueCapacity", 64);
+        ReflectionTestUtils.setField(config, "hashingTimeoutMs", 60000L);
+        passwordEncoder = config.passwordEncoder(new SimpleMeterRegistry());
+        encodedPassword = passwordEncoder.encode(BenchmarkFixtures.PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        ((BoundedPasswordEncoder) passwordEncoder).destroy();
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(BenchmarkFixtures.PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(BenchmarkFixtures.PASSWORD, encodedPassword);
+    }
+}
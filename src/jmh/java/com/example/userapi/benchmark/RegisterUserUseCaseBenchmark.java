@@ -0,0 +1,57 @@
+package com.example.userapi.benchmark;
+
+import com.example.userapi.UserRegistrationApiApplication;
+import com.example.userapi.application.dto.UserResponse;
+import com.example.userapi.application.usecase.RegisterUserUseCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registro completo (validaciones, duplicado, hash, JWT e INSERT) contra H2 en memoria,
+ * con el contexto Spring real y sin servidor web
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RegisterUserUseCaseBenchmark {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private RegisterUserUseCase registerUserUseCase;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(UserRegistrationApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "security.password.calibration.enabled=false")
+                .run();
+        registerUserUseCase = context.getBean(RegisterUserUseCase.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserResponse execute() {
+        return registerUserUseCase.execute(
+                BenchmarkFixtures.registerRequest(BenchmarkFixtures.uniqueEmail(sequence.getAndIncrement())));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.userapi.benchmark;
+
+import com.example.userapi.UserRegistrationApiApplication;
+import com.example.userapi.domain.model.Phone;
+import com.example.userapi.domain.model.User;
+import com.example.userapi.domain.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Usuarios insertados por segundo sobre H2 en archivo, antes y despues del perfil prod.
+ * baseline: configuracion original (sin batching JDBC, autocommit, pool por defecto, esquema de Hibernate).
+ * prod: perfil prod (Flyway, batching ordenado, pool fijo sin autocommit, cache de sentencias).
+ * Los usuarios llegan ya preparados (ID y hash asignados) para medir solo la persistencia.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String ENCODED_PASSWORD = "{bcrypt}$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1xVh6YkR4c9aVx1r6Qp9p8W";
+
+    @Param({"baseline", "prod"})
+    public String configuration;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private Path dataDirectory;
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+
+    @Setup
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("userdb-bench");
+        String url = "jdbc:h2:file:" + dataDirectory.resolve("userdb").toAbsolutePath();
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(UserRegistrationApiApplication.class)
+                .web(WebApplicationType.NONE);
+        if ("prod".equals(configuration)) {
+            builder.profiles("prod")
+                    .properties("spring.datasource.url=" + url + ";QUERY_CACHE_SIZE=64");
+        } else {
+            builder.properties(
+                    "spring.datasource.url=" + url,
+                    "spring.jpa.show-sql=false",
+                    "spring.jpa.properties.hibernate.jdbc.batch_size=1",
+                    "spring.jpa.properties.hibernate.order_inserts=false");
+        }
+        context = builder
+                .properties(
+                        "logging.level.root=WARN",
+                        "security.password.calibration.enabled=false")
+                .run();
+        userService = context.getBean(UserService.class);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(dataDirectory);
+    }
+
+    /**
+     * Un usuario por transaccion: mide el costo fijo de conexion, autocommit y commit
+     */
+    @Benchmark
+    public List<User> insertSingle() {
+        return userService.saveUsers(List.of(newUser()));
+    }
+
+    /**
+     * Un lote por transaccion: mide el batching JDBC de usuarios y telefonos
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<User> insertBatch() {
+        List<User> users = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            users.add(newUser());
+        }
+        return userService.saveUsers(users);
+    }
+
+    private User newUser() {
+        User user = User.builder()
+                .name("Juan Rodriguez")
+                .email(BenchmarkFixtures.uniqueEmail(sequence.getAndIncrement()))
+                .password(ENCODED_PASSWORD)
+                .phones(new ArrayList<>(List.of(
+                        new Phone("1234567", "1", "57"),
+                        new Phone("7654321", "2", "57"))))
+                .build();
+        user.assignId();
+        user.activate();
+        return user;
+    }
+}
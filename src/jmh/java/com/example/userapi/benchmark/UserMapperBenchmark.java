@@ -0,0 +1,54 @@
+package com.example.userapi.benchmark;
+
+import com.example.userapi.application.dto.RegisterUserRequest;
+import com.example.userapi.application.dto.UserResponse;
+import com.example.userapi.application.mapper.UserMapper;
+import com.example.userapi.domain.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion entre DTOs y entidad en UserMapper
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserMapperBenchmark {
+
+    private UserMapper userMapper;
+    private RegisterUserRequest request;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        userMapper = UserMapper.builder().build();
+        request = BenchmarkFixtures.registerRequest("juan@rodriguez.org");
+        user = userMapper.toEntity(request);
+        LocalDateTime now = LocalDateTime.now();
+        user.setId(UUID.randomUUID());
+        user.setCreated(now);
+        user.setModified(now);
+        user.setLastLogin(now);
+        user.setIsactive(true);
+        user.setToken("token");
+    }
+
+    @Benchmark
+    public User toEntity() {
+        return userMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public UserResponse toResponse() {
+        return userMapper.toResponse(user);
+    }
+}
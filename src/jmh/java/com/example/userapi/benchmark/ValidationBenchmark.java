@@ -0,0 +1,45 @@
+package com.example.userapi.benchmark;
+
+import com.example.userapi.domain.service.UserService;
+import com.example.userapi.domain.validation.ValidationRuleEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validacion de formato de email y contraseña en UserService, con y sin el fast-path sin regex
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+
+    @Param({"true", "false"})
+    public boolean fastPath;
+
+    private UserService userService;
+
+    @Setup
+    public void setUp() {
+        ValidationRuleEngine engine = new ValidationRuleEngine(
+                BenchmarkFixtures.EMAIL_REGEXP, BenchmarkFixtures.PASSWORD_REGEXP, null, fastPath);
+        userService = new UserService(null, null, engine);
+    }
+
+    @Benchmark
+    public void validateEmail() {
+        userService.validateEmail("juan@rodriguez.org");
+    }
+
+    @Benchmark
+    public void validatePassword() {
+        userService.validatePassword(BenchmarkFixtures.PASSWORD);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.userapi.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Parametros de la prueba de carga, leidos de las propiedades de sistema {@code load.*}
+ *
+ * @param model             closed (concurrencia fija) u open (tasa de llegada fija)
+ * @param concurrency       Clientes concurrentes del modelo cerrado
+ * @param rate              Peticiones por segundo del modelo abierto
+ * @param warmup            Duracion del calentamiento, no se registra
+ * @param duration          Duracion de la medicion
+ * @param expectedInterval  Intervalo esperado entre peticiones de un cliente del modelo cerrado,
+ *                          usado para corregir la omision coordinada (cero = sin correccion)
+ * @param requestTimeout    Timeout por peticion
+ * @param profile           Perfil de Spring a activar (vacio = configuracion por defecto)
+ * @param reportDir         Directorio donde se escribe el reporte
+ */
+record LoadTestOptions(
+        Model model,
+        int concurrency,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        Duration expectedInterval,
+        Duration requestTimeout,
+        String profile,
+        Path reportDir) {
+
+    enum Model {
+        CLOSED, OPEN
+    }
+
+    static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Model.valueOf(System.getProperty("load.model", "closed").toUpperCase(Locale.ROOT)),
+                Integer.getInteger("load.concurrency", 64),
+                Integer.getInteger("load.rate", 100),
+                Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10L)),
+                Duration.ofSeconds(Long.getLong("load.duration-seconds", 30L)),
+                Duration.ofMillis(Long.getLong("load.expected-interval-ms", 0L)),
+                Duration.ofMillis(Long.getLong("load.timeout-ms", 10_000L)),
+                System.getProperty("load.profile", ""),
+                Path.of(System.getProperty("load.report-dir", "build/reports/load-test")));
+    }
+
+    String describe() {
+        String scenario = model == Model.CLOSED
+                ? "modelo cerrado, " + concurrency + " clientes"
+                : "modelo abierto, " + rate + " peticiones/s";
+        return scenario + ", perfil " + profileName();
+    }
+
+    String profileName() {
+        return profile.isBlank() ? "default" : profile;
+    }
+}
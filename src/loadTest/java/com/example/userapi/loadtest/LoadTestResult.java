@@ -0,0 +1,109 @@
+package com.example.userapi.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resultados de una fase de carga: histogramas de latencia (en microsegundos) y
+ * conteo de respuestas por codigo de estado
+ */
+final class LoadTestResult {
+
+    /**
+     * Codigo usado para errores de red o timeouts, sin respuesta HTTP
+     */
+    static final int IO_ERROR = -1;
+
+    private static final Map<Integer, String> STATUS_LABELS = Map.of(
+            201, "registrado",
+            400, "ValidationException",
+            401, "no autenticado",
+            409, "BusinessException (correo duplicado)",
+            500, "error interno",
+            503, "ServiceOverloadedException",
+            IO_ERROR, "error de red / timeout");
+
+    /**
+     * Latencia desde el instante en que la peticion debio enviarse (corregida por omision coordinada)
+     */
+    private final Histogram corrected = new ConcurrentHistogram(3);
+
+    /**
+     * Latencia desde el envio real, como la reportaria un cliente ingenuo
+     */
+    private final Histogram uncorrected = new ConcurrentHistogram(3);
+
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final long expectedIntervalMicros;
+
+    LoadTestResult(long expectedIntervalMicros) {
+        this.expectedIntervalMicros = expectedIntervalMicros;
+    }
+
+    void record(long intendedNanos, long sentNanos, long completedNanos, int status) {
+        long correctedMicros = TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedNanos);
+        if (expectedIntervalMicros > 0) {
+            corrected.recordValueWithExpectedInterval(correctedMicros, expectedIntervalMicros);
+        } else {
+            corrected.recordValue(correctedMicros);
+        }
+        uncorrected.recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - sentNanos));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    void print(PrintStream out, LoadTestOptions options, long elapsedNanos) {
+        long requests = uncorrected.getTotalCount();
+        double seconds = elapsedNanos / 1e9;
+        out.println("=== Prueba de carga POST /api/users/register ===");
+        out.printf("Escenario:       %s, %d s%n", options.describe(), options.duration().toSeconds());
+        out.printf("Peticiones:      %d (%.1f req/s)%n", requests, requests / seconds);
+        out.printf("Exitosas (201):  %d (%.1f req/s)%n", count(201), count(201) / seconds);
+        out.println();
+        out.println("Latencia (ms)     corregida   sin corregir");
+        printPercentile(out, "p50", 50.0);
+        printPercentile(out, "p90", 90.0);
+        printPercentile(out, "p99", 99.0);
+        printPercentile(out, "p999", 99.9);
+        out.printf("  %-14s %10.2f %12.2f%n", "max", corrected.getMaxValue() / 1000.0, uncorrected.getMaxValue() / 1000.0);
+        out.println();
+        out.println("Respuestas por estado:");
+        new TreeMap<>(statuses).forEach((status, count) -> out.printf("  %-6s %-40s %d%n",
+                status == IO_ERROR ? "-" : String.valueOf(status),
+                STATUS_LABELS.getOrDefault(status, ""),
+                count.sum()));
+    }
+
+    /**
+     * Escribe el resumen y la distribucion completa de percentiles (formato .hgrm de HdrHistogram)
+     */
+    void write(Path directory, LoadTestOptions options, long elapsedNanos) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")))) {
+            print(summary, options, elapsedNanos);
+        }
+        try (PrintStream distribution = new PrintStream(Files.newOutputStream(directory.resolve("latency.hgrm")))) {
+            corrected.outputPercentileDistribution(distribution, 1000.0);
+        }
+    }
+
+    private void printPercentile(PrintStream out, String label, double percentile) {
+        out.printf("  %-14s %10.2f %12.2f%n", label,
+                corrected.getValueAtPercentile(percentile) / 1000.0,
+                uncorrected.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    private long count(int status) {
+        LongAdder adder = statuses.get(status);
+        return adder == null ? 0 : adder.sum();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.userapi.loadtest;
+
+import com.example.userapi.UserRegistrationApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Prueba de carga end-to-end: levanta la aplicacion en un puerto aleatorio con H2 en memoria
+ * y envia registros a {@code POST /api/users/register} usando HttpClient y virtual threads.
+ * <ul>
+ *   <li>Modelo cerrado: N clientes envian una peticion tras otra.</li>
+ *   <li>Modelo abierto: las peticiones llegan a tasa fija sin esperar respuestas anteriores; la
+ *   latencia se mide desde el instante programado, corrigiendo la omision coordinada.</li>
+ * </ul>
+ * Se ejecuta con {@code ./gradlew loadTest}; ver {@link LoadTestOptions} para los parametros.
+ */
+public final class RegistrationLoadTest {
+
+    private static final String REQUEST_TEMPLATE = """
+            {"name":"Usuario Carga","email":"%s","password":"Hunter22",\
+            "phones":[{"number":"1234567","citycode":"1","contrycode":"57"}]}""";
+
+    private final LoadTestOptions options;
+    private final URI target;
+    private final HttpClient httpClient;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private RegistrationLoadTest(LoadTestOptions options, URI target) {
+        this.options = options;
+        this.target = target;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(options.requestTimeout())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        SpringApplicationBuilder application = new SpringApplicationBuilder(UserRegistrationApiApplication.class);
+        if (!options.profile().isBlank()) {
+            application.profiles(options.profile());
+        }
+        try (ConfigurableApplicationContext context = application
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            RegistrationLoadTest loadTest = new RegistrationLoadTest(
+                    options, URI.create("http://localhost:" + port + "/api/users/register"));
+
+            System.out.printf("Calentando %d s (%s)...%n", options.warmup().toSeconds(), options.describe());
+            loadTest.runPhase(options.warmup(), new LoadTestResult(0));
+
+            System.out.printf("Midiendo %d s...%n", options.duration().toSeconds());
+            LoadTestResult result = new LoadTestResult(TimeUnit.NANOSECONDS.toMicros(options.expectedInterval().toNanos()));
+            long elapsed = loadTest.runPhase(options.duration(), result);
+
+            result.print(System.out, options, elapsed);
+            Path reportDir = options.reportDir().resolve(options.profileName());
+            result.write(reportDir, options, elapsed);
+            System.out.println("Reporte escrito en " + reportDir.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Ejecuta una fase y espera a que terminen las peticiones en vuelo
+     *
+     * @return Duracion real de la fase en nanosegundos
+     */
+    private long runPhase(Duration duration, LoadTestResult result) {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (options.model() == LoadTestOptions.Model.CLOSED) {
+                for (int i = 0; i < options.concurrency(); i++) {
+                    executor.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            long sent = System.nanoTime();
+                            int status = send();
+                            result.record(sent, sent, System.nanoTime(), status);
+                        }
+                    });
+                }
+            } else {
+                long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+                for (long i = 0; ; i++) {
+                    long intended = start + i * intervalNanos;
+                    if (intended >= deadline) {
+                        break;
+                    }
+                    parkUntil(intended);
+                    executor.submit(() -> {
+                        long sent = System.nanoTime();
+                        int status = send();
+                        result.record(intended, sent, System.nanoTime(), status);
+                    });
+                }
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Envia un registro con un email nuevo
+     *
+     * @return Codigo de estado HTTP, o {@link LoadTestResult#IO_ERROR} si no hubo respuesta
+     */
+    private int send() {
+        HttpRequest request = HttpRequest.newBuilder(target)
+                .timeout(options.requestTimeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(REQUEST_TEMPLATE.formatted(nextEmail())))
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return LoadTestResult.IO_ERROR;
+        } catch (Exception ex) {
+            return LoadTestResult.IO_ERROR;
+        }
+    }
+
+    /**
+     * Email unico que cumple la expresion por defecto (solo letras minusculas)
+     */
+    private String nextEmail() {
+        StringBuilder local = new StringBuilder("carga");
+        long value = sequence.getAndIncrement();
+        do {
+            local.append((char) ('a' + (value % 26)));
+            value /= 26;
+        } while (value > 0);
+        return local.append("@load.org").toString();
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
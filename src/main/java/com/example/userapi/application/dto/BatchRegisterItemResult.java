@@ -0,0 +1,37 @@
+package com.example.userapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO Pattern - Resultado individual de un elemento dentro de un registro por lotes
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado del registro de un elemento del lote")
+public class BatchRegisterItemResult {
+
+    @Schema(description = "Posicion del elemento dentro del lote (base 0)", example = "0")
+    @JsonProperty("index")
+    private int index;
+
+    @Schema(description = "Codigo HTTP equivalente al resultado del elemento", example = "201")
+    @JsonProperty("status")
+    private int status;
+
+    @Schema(description = "Usuario registrado, presente solo cuando el registro fue exitoso")
+    @JsonProperty("user")
+    private UserResponse user;
+
+    @Schema(description = "Mensaje de error, presente solo cuando el registro fallo", example = "El correo ya registrado")
+    @JsonProperty("mensaje")
+    private String mensaje;
+}
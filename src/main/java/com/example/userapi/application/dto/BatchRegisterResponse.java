@@ -0,0 +1,39 @@
+package com.example.userapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO Pattern - Response del registro de usuarios por lotes
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resumen y resultados del registro por lotes")
+public class BatchRegisterResponse {
+
+    @Schema(description = "Cantidad de elementos recibidos", example = "3")
+    @JsonProperty("total")
+    private int total;
+
+    @Schema(description = "Cantidad de usuarios registrados", example = "2")
+    @JsonProperty("created")
+    private int created;
+
+    @Schema(description = "Cantidad de elementos rechazados", example = "1")
+    @JsonProperty("failed")
+    private int failed;
+
+    @Schema(description = "Resultado por elemento, en el mismo orden del lote")
+    @JsonProperty("results")
+    @Builder.Default
+    private List<BatchRegisterItemResult> results = new ArrayList<>();
+}
@@ -0,0 +1,27 @@
+package com.example.userapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO Pattern - Request para la introspeccion de tokens por lotes
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Lote de tokens a verificar")
+public class IntrospectTokensRequest {
+
+    @Schema(description = "Tokens JWT, sin el prefijo Bearer", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "El lote de tokens no puede estar vacio")
+    @JsonProperty("tokens")
+    private List<String> tokens;
+}
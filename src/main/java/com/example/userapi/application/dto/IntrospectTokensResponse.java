@@ -0,0 +1,35 @@
+package com.example.userapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO Pattern - Response de la introspeccion de tokens por lotes
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Resumen y resultados de la introspeccion por lotes")
+public class IntrospectTokensResponse {
+
+    @Schema(description = "Cantidad de tokens recibidos", example = "3")
+    @JsonProperty("total")
+    private int total;
+
+    @Schema(description = "Cantidad de tokens activos", example = "2")
+    @JsonProperty("active")
+    private int active;
+
+    @Schema(description = "Resultado por token, en el mismo orden del lote")
+    @JsonProperty("results")
+    @Builder.Default
+    private List<TokenIntrospectionResult> results = new ArrayList<>();
+}
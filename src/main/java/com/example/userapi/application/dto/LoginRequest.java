@@ -0,0 +1,30 @@
+package com.example.userapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO Pattern - Request para el inicio de sesion
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Credenciales para iniciar sesion")
+public class LoginRequest {
+    
+    @Schema(description = "Correo electronico del usuario", example = "jorge@marquez.org", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "El correo es obligatorio")
+    @JsonProperty("email")
+    private String email;
+    
+    @Schema(description = "Contraseña del usuario", example = "Hunter22", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "La contraseña es obligatoria")
+    @JsonProperty("password")
+    private String password;
+}
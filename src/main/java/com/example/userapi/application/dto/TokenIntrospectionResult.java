@@ -0,0 +1,37 @@
+package com.example.userapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO Pattern - Resultado de la introspeccion de un token (campos de RFC 7662)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado de la verificacion de un token del lote")
+public class TokenIntrospectionResult {
+
+    @Schema(description = "Posicion del token dentro del lote (base 0)", example = "0")
+    @JsonProperty("index")
+    private int index;
+
+    @Schema(description = "true si el token es valido, no expiro y no fue revocado", example = "true")
+    @JsonProperty("active")
+    private boolean active;
+
+    @Schema(description = "Email del usuario, presente solo cuando el token esta activo", example = "jorge@marquez.org")
+    @JsonProperty("sub")
+    private String sub;
+
+    @Schema(description = "Expiracion en segundos desde epoch, presente solo cuando el token esta activo", example = "1760086400")
+    @JsonProperty("exp")
+    private Long exp;
+}
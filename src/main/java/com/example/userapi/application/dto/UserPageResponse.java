@@ -0,0 +1,31 @@
+package com.example.userapi.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO Pattern - Pagina de usuarios con cursor para la siguiente pagina
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Pagina de usuarios paginada por cursor")
+public class UserPageResponse {
+    
+    @Schema(description = "Usuarios de la pagina, ordenados por fecha de creacion e ID")
+    @JsonProperty("items")
+    @Builder.Default
+    private List<UserSummaryResponse> items = new ArrayList<>();
+    
+    @Schema(description = "Cursor opaco para solicitar la siguiente pagina; null si no hay mas resultados")
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+}
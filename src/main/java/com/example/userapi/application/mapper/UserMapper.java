@@ -3,8 +3,10 @@ package com.example.userapi.application.mapper;
 import com.example.userapi.application.dto.PhoneDTO;
 import com.example.userapi.application.dto.RegisterUserRequest;
 import com.example.userapi.application.dto.UserResponse;
+import com.example.userapi.application.dto.UserSummaryResponse;
 import com.example.userapi.domain.model.Phone;
 import com.example.userapi.domain.model.User;
+import com.example.userapi.domain.model.UserSummary;
 import lombok.Builder;
 import org.springframework.stereotype.Component;
 
@@ -49,6 +51,22 @@ public class UserMapper {
                 .build();
     }
     
+    /**
+     * Convierte una proyeccion de lectura UserSummary a un UserSummaryResponse DTO
+     */
+    public UserSummaryResponse toSummaryResponse(UserSummary summary) {
+        return UserSummaryResponse.builder()
+                .id(summary.id())
+                .name(summary.name())
+                .email(summary.email())
+                .phones(toPhoneDTOList(summary.phones()))
+                .created(summary.created())
+                .modified(summary.modified())
+                .lastLogin(summary.lastLogin())
+                .isactive(summary.isactive())
+                .build();
+    }
+    
     /**
      * Convierte una lista de PhoneDTO a una lista de Phone (entidad)
      */
@@ -0,0 +1,190 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.dto.UserSummaryResponse;
+import com.example.userapi.application.mapper.UserMapper;
+import com.example.userapi.domain.exception.ValidationException;
+import com.example.userapi.domain.model.Phone;
+import com.example.userapi.domain.model.UserSummary;
+import com.example.userapi.domain.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Use Case Pattern - Caso de uso para exportar todos los usuarios en NDJSON o CSV.
+ * Escribe cada usuario en el flujo de salida a medida que se lee de la base de datos,
+ * sin acumular la exportacion en memoria. Nunca incluye contraseña ni token.
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class ExportUsersUseCase {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String CSV_HEADER = "id,name,email,phones,created,modified,last_login,isactive";
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectMapper objectMapper;
+
+    public ExportUsersUseCase(UserRepository userRepository, UserMapper userMapper, ObjectMapper objectMapper) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.objectMapper = objectMapper;
+        this.ndjsonWriter = objectMapper.writerFor(UserSummaryResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Formatos de exportacion soportados
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * Resuelve el formato a partir de su nombre, sin distinguir mayusculas
+         */
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new ValidationException("Formato de exportacion no soportado: " + value);
+        }
+    }
+
+    /**
+     * Ejecuta la exportacion. El flujo de salida no se cierra.
+     *
+     * @param format Formato de salida
+     * @param output Flujo donde se escriben los usuarios
+     * @return Cantidad de usuarios exportados
+     */
+    public long execute(Format format, OutputStream output) throws IOException {
+        long start = System.currentTimeMillis();
+        long exported;
+        try {
+            exported = format == Format.CSV ? writeCsv(output) : writeNdjson(output);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        log.info("Exportacion {} completada: {} usuarios en {} ms",
+                format, exported, System.currentTimeMillis() - start);
+        return exported;
+    }
+
+    private long writeNdjson(OutputStream output) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        long exported = userRepository.forEachUser(user -> {
+            try {
+                ndjsonWriter.writeValue(generator, userMapper.toSummaryResponse(user));
+                generator.writeRaw('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        generator.close();
+        return exported;
+    }
+
+    private long writeCsv(OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long exported = userRepository.forEachUser(user -> {
+            try {
+                writeCsvRow(writer, user);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        writer.flush();
+        return exported;
+    }
+
+    private void writeCsvRow(Writer writer, UserSummary user) throws IOException {
+        writer.write(user.id().toString());
+        writer.write(',');
+        writeCsvField(writer, user.name());
+        writer.write(',');
+        writeCsvField(writer, user.email());
+        writer.write(',');
+        StringBuilder phones = new StringBuilder();
+        for (Phone phone : user.phones()) {
+            if (!phones.isEmpty()) {
+                phones.append(';');
+            }
+            phones.append(phone.getContrycode()).append('-')
+                    .append(phone.getCitycode()).append('-')
+                    .append(phone.getNumber());
+        }
+        writeCsvField(writer, phones.toString());
+        writer.write(',');
+        writer.write(format(user.created()));
+        writer.write(',');
+        writer.write(format(user.modified()));
+        writer.write(',');
+        writer.write(format(user.lastLogin()));
+        writer.write(',');
+        writer.write(String.valueOf(user.isactive()).toLowerCase(Locale.ROOT));
+        writer.write('\n');
+    }
+
+    /**
+     * Escribe un campo CSV (RFC 4180), entre comillas solo cuando es necesario
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String format(LocalDateTime value) {
+        return value == null ? "" : TIMESTAMP.format(value);
+    }
+}
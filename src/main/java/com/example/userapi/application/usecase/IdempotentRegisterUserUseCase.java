@@ -0,0 +1,149 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.dto.PhoneDTO;
+import com.example.userapi.application.dto.RegisterUserRequest;
+import com.example.userapi.application.dto.UserResponse;
+import com.example.userapi.domain.exception.ValidationException;
+import com.example.userapi.infrastructure.idempotency.IdempotencyStore;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+/**
+ * Use Case Pattern - Registro de usuario idempotente segun la cabecera Idempotency-Key.
+ * Un reintento con la misma llave y la misma peticion se responde desde {@link IdempotencyStore}
+ * sin volver a validar, calcular el hash ni escribir en la base de datos.
+ * El almacen no guarda el token: la respuesta se almacena sin el y cada reproduccion recibe
+ * un token nuevo, emitido con el ID y el email guardados y los roles del registro publico
+ * (nunca administrador), sin consultar la base de datos.
+ * La huella de la peticion es un HMAC con una clave aleatoria por proceso, para no retener
+ * en memoria un hash de la contraseña verificable fuera de la aplicacion.
+ */
+@Component
+@Profile("!reactive")
+public class IdempotentRegisterUserUseCase {
+    
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String FINGERPRINT_ALGORITHM = "HmacSHA256";
+    
+    private final RegisterUserUseCase registerUserUseCase;
+    private final IdempotencyStore idempotencyStore;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec fingerprintKey;
+    
+    public IdempotentRegisterUserUseCase(RegisterUserUseCase registerUserUseCase,
+                                         IdempotencyStore idempotencyStore,
+                                         JwtTokenProvider jwtTokenProvider,
+                                         ObjectMapper objectMapper) {
+        this.registerUserUseCase = registerUserUseCase;
+        this.idempotencyStore = idempotencyStore;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.objectMapper = objectMapper;
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.fingerprintKey = new SecretKeySpec(key, FINGERPRINT_ALGORITHM);
+    }
+    
+    /**
+     * Ejecuta el registro una sola vez por Idempotency-Key
+     * 
+     * @param idempotencyKey Llave enviada por el cliente
+     * @param request Datos del usuario a registrar
+     * @return Respuesta del registro e indicador de si fue reproducida
+     */
+    public Result execute(String idempotencyKey, RegisterUserRequest request) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException("La Idempotency-Key debe tener entre 1 y " + MAX_KEY_LENGTH + " caracteres");
+        }
+        String[] issuedToken = new String[1];
+        IdempotencyStore.Outcome outcome = idempotencyStore.execute(idempotencyKey, fingerprint(request), () -> {
+            UserResponse response = registerUserUseCase.execute(request);
+            issuedToken[0] = response.getToken();
+            response.setToken(null);
+            return serialize(response);
+        });
+        UserResponse response = deserialize(outcome.body());
+        response.setToken(outcome.replayed() ? reissueToken(response) : issuedToken[0]);
+        return new Result(response, outcome.replayed());
+    }
+    
+    /**
+     * Resultado del registro idempotente
+     * 
+     * @param response Datos del usuario registrado
+     * @param replayed true si la respuesta proviene de una ejecucion anterior con la misma llave
+     */
+    public record Result(UserResponse response, boolean replayed) {
+    }
+    
+    /**
+     * Emite un token nuevo para el usuario de una respuesta reproducida, con los mismos claims
+     * que el token original: el registro publico no asigna el rol de administrador
+     */
+    private String reissueToken(UserResponse response) {
+        return jwtTokenProvider.generateToken(response.getId(), response.getEmail(), false);
+    }
+    
+    private byte[] fingerprint(RegisterUserRequest request) {
+        try {
+            Mac mac = Mac.getInstance(FINGERPRINT_ALGORITHM);
+            mac.init(fingerprintKey);
+            update(mac, request.getName());
+            update(mac, request.getEmail());
+            update(mac, request.getPassword());
+            if (request.getPhones() != null) {
+                for (PhoneDTO phone : request.getPhones()) {
+                    update(mac, phone.getNumber());
+                    update(mac, phone.getCitycode());
+                    update(mac, phone.getContrycode());
+                }
+            }
+            return mac.doFinal();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("No se pudo calcular la huella de la peticion", ex);
+        }
+    }
+    
+    /**
+     * Agrega un campo con su largo como prefijo, para que ("ab", "c") y ("a", "bc") no coincidan
+     */
+    private static void update(Mac mac, String value) {
+        if (value == null) {
+            mac.update((byte) 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        mac.update((byte) 1);
+        mac.update((byte) (bytes.length >>> 24));
+        mac.update((byte) (bytes.length >>> 16));
+        mac.update((byte) (bytes.length >>> 8));
+        mac.update((byte) bytes.length);
+        mac.update(bytes);
+    }
+    
+    private byte[] serialize(UserResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+    
+    private UserResponse deserialize(byte[] body) {
+        try {
+            return objectMapper.readValue(body, UserResponse.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
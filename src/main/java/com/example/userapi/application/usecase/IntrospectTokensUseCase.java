@@ -0,0 +1,208 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.dto.IntrospectTokensResponse;
+import com.example.userapi.application.dto.TokenIntrospectionResult;
+import com.example.userapi.domain.exception.ServiceOverloadedException;
+import com.example.userapi.domain.exception.ValidationException;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Use Case Pattern - Caso de uso para verificar un lote de tokens en una sola peticion.
+ * Pensado para gateways: amortiza el costo HTTP de verificar token por token.
+ * Cada token distinto se verifica una sola vez (los repetidos reutilizan el resultado) y,
+ * desde {@code tokens.introspection.parallel-threshold} tokens distintos, la verificacion
+ * se reparte en un pool dedicado y acotado: cuando su cola esta llena o se excede el tiempo
+ * maximo se rechaza con {@link ServiceOverloadedException} (503), sin ocupar el pool comun.
+ * Un token es activo si su firma es valida, no expiro y no fue revocado.
+ */
+@Component
+@Slf4j
+public class IntrospectTokensUseCase {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final int maxBatchSize;
+    private final int parallelThreshold;
+    private final int threads;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor executor;
+
+    public IntrospectTokensUseCase(JwtTokenProvider jwtTokenProvider,
+                                   @Value("${tokens.introspection.max-size:100}") int maxBatchSize,
+                                   @Value("${tokens.introspection.parallel-threshold:32}") int parallelThreshold,
+                                   @Value("${tokens.introspection.threads:0}") int threads,
+                                   @Value("${tokens.introspection.queue-capacity:64}") int queueCapacity,
+                                   @Value("${tokens.introspection.timeout-ms:2000}") long timeoutMs) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.maxBatchSize = maxBatchSize;
+        this.parallelThreshold = parallelThreshold;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.timeoutMs = timeoutMs;
+        this.executor = new ThreadPoolExecutor(
+                this.threads, this.threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Ejecuta el caso de uso de introspeccion por lotes
+     *
+     * @param tokens Tokens JWT, en orden
+     * @return IntrospectTokensResponse con el resultado de cada token
+     */
+    public IntrospectTokensResponse execute(List<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) {
+            throw new ValidationException("El lote de tokens no puede estar vacio");
+        }
+        if (tokens.size() > maxBatchSize) {
+            throw new ValidationException("El lote excede el tamaño maximo permitido de " + maxBatchSize);
+        }
+
+        // 1. Tokens distintos del lote; cada posicion apunta al token distinto que le corresponde
+        Map<String, Integer> distinctIndexes = new HashMap<>();
+        List<String> distinct = new ArrayList<>();
+        int[] positions = new int[tokens.size()];
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            if (token == null || token.isBlank()) {
+                positions[i] = -1;
+                continue;
+            }
+            Integer position = distinctIndexes.putIfAbsent(token, distinct.size());
+            if (position == null) {
+                position = distinct.size();
+                distinct.add(token);
+            }
+            positions[i] = position;
+        }
+
+        // 2. Verificacion de cada token distinto (null si es invalido), en el pool dedicado para lotes grandes
+        Claims[] verified = new Claims[distinct.size()];
+        if (distinct.size() >= parallelThreshold && threads > 1) {
+            verifyInParallel(distinct, verified);
+        } else {
+            verifyRange(distinct, verified, 0, distinct.size());
+        }
+
+        // 3. Resultado por posicion del lote
+        List<TokenIntrospectionResult> results = new ArrayList<>(tokens.size());
+        int active = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            Claims claims = positions[i] < 0 ? null : verified[positions[i]];
+            if (claims != null) {
+                active++;
+            }
+            results.add(toResult(i, claims));
+        }
+
+        log.debug("Introspeccion de {} tokens ({} distintos): {} activos", tokens.size(), distinct.size(), active);
+        return IntrospectTokensResponse.builder()
+                .total(tokens.size())
+                .active(active)
+                .results(results)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Reparte los tokens en un tramo por hilo; el hilo de la peticion verifica el primero.
+     * Ante cualquier salida anticipada (saturacion, timeout, error de un tramo) se cancelan
+     * los tramos pendientes para no ocupar el pool con un lote ya descartado.
+     */
+    private void verifyInParallel(List<String> distinct, Claims[] verified) {
+        int sliceSize = Math.ceilDiv(distinct.size(), Math.min(threads, distinct.size()));
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            try {
+                for (int from = sliceSize; from < distinct.size(); from += sliceSize) {
+                    int start = from;
+                    int end = Math.min(from + sliceSize, distinct.size());
+                    futures.add(executor.submit(() -> verifyRange(distinct, verified, start, end)));
+                }
+            } catch (RejectedExecutionException ex) {
+                log.warn("Cola de introspeccion saturada ({} en espera), rechazando peticion", executor.getQueue().size());
+                throw new ServiceOverloadedException("Servicio temporalmente saturado, intente nuevamente");
+            }
+            verifyRange(distinct, verified, 0, Math.min(sliceSize, distinct.size()));
+            
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            for (Future<?> future : futures) {
+                try {
+                    future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException ex) {
+                    throw new ServiceOverloadedException("Servicio temporalmente saturado, intente nuevamente");
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Introspeccion de tokens interrumpida", ex);
+                } catch (ExecutionException ex) {
+                    if (ex.getCause() instanceof RuntimeException runtimeException) {
+                        throw runtimeException;
+                    }
+                    throw new IllegalStateException("Error verificando tokens", ex.getCause());
+                }
+            }
+        } finally {
+            // Sin efecto sobre los tramos ya terminados
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Verifica los tokens del tramo [from, to): claims si esta activo, null si no
+     */
+    private void verifyRange(List<String> distinct, Claims[] verified, int from, int to) {
+        for (int i = from; i < to; i++) {
+            verified[i] = jwtTokenProvider.parse(distinct.get(i)).orElse(null);
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "token-introspection-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static TokenIntrospectionResult toResult(int index, Claims claims) {
+        if (claims == null) {
+            return TokenIntrospectionResult.builder()
+                    .index(index)
+                    .active(false)
+                    .build();
+        }
+        Date expiration = claims.getExpiration();
+        return TokenIntrospectionResult.builder()
+                .index(index)
+                .active(true)
+                .sub(claims.getSubject())
+                .exp(expiration != null ? Long.valueOf(expiration.getTime() / 1000) : null)
+                .build();
+    }
+}
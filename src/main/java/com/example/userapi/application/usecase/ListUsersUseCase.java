@@ -0,0 +1,129 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.dto.UserPageResponse;
+import com.example.userapi.application.dto.UserSummaryResponse;
+import com.example.userapi.application.mapper.UserMapper;
+import com.example.userapi.domain.exception.ValidationException;
+import com.example.userapi.domain.model.UserSearchCriteria;
+import com.example.userapi.domain.model.UserSummary;
+import com.example.userapi.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use Case Pattern - Caso de uso para listar y buscar usuarios.
+ * Pagina por keyset sobre (created, id): el cursor codifica la posicion del ultimo
+ * elemento entregado, de modo que cada pagina cuesta lo mismo sin importar su profundidad.
+ */
+@Component
+@Profile("!reactive")
+public class ListUsersUseCase {
+    
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    
+    @Value("${users.listing.max-page-size:200}")
+    private int maxPageSize;
+    
+    public ListUsersUseCase(UserRepository userRepository, UserMapper userMapper) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+    }
+    
+    /**
+     * Ejecuta la busqueda de una pagina de usuarios
+     * 
+     * @param isactive Filtro por estado (opcional)
+     * @param emailPrefix Prefijo del email (opcional)
+     * @param createdFrom Fecha de creacion minima, inclusiva (opcional)
+     * @param createdTo Fecha de creacion maxima, exclusiva (opcional)
+     * @param cursor Cursor retornado por la pagina anterior (opcional)
+     * @param limit Tamaño de la pagina
+     * @return UserPageResponse con los usuarios y el cursor de la siguiente pagina
+     */
+    public UserPageResponse execute(Boolean isactive, String emailPrefix, LocalDateTime createdFrom,
+                                    LocalDateTime createdTo, String cursor, int limit) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new ValidationException("El tamaño de pagina debe estar entre 1 y " + maxPageSize);
+        }
+        LocalDateTime afterCreated = null;
+        UUID afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            afterCreated = LocalDateTime.parse(position[0]);
+            afterId = UUID.fromString(position[1]);
+        }
+        
+        // Se pide un elemento extra para saber si existe una pagina siguiente
+        List<UserSummary> rows = userRepository.search(new UserSearchCriteria(
+                isactive, emailPrefix, createdFrom, createdTo, afterCreated, afterId, limit + 1));
+        boolean hasNext = rows.size() > limit;
+        List<UserSummary> page = hasNext ? rows.subList(0, limit) : rows;
+        
+        List<UserSummaryResponse> items = page.stream()
+                .map(userMapper::toSummaryResponse)
+                .toList();
+        String nextCursor = null;
+        if (hasNext) {
+            UserSummary last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.created(), last.id());
+        }
+        return UserPageResponse.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
+    /**
+     * Busca los usuarios que tienen registrado un telefono
+     * 
+     * @param contrycode Codigo de pais
+     * @param citycode Codigo de ciudad
+     * @param number Numero de telefono
+     * @return UserPageResponse con los usuarios encontrados (sin cursor)
+     */
+    public UserPageResponse findByPhone(String contrycode, String citycode, String number) {
+        if (isBlank(contrycode) || isBlank(citycode) || isBlank(number)) {
+            throw new ValidationException("contrycode, citycode y number son obligatorios");
+        }
+        List<UserSummaryResponse> items = userRepository.findByPhone(contrycode, citycode, number, maxPageSize)
+                .stream()
+                .map(userMapper::toSummaryResponse)
+                .toList();
+        return UserPageResponse.builder()
+                .items(items)
+                .build();
+    }
+    
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+    
+    private static String encodeCursor(LocalDateTime created, UUID id) {
+        String position = created + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new ValidationException("El cursor es invalido");
+            }
+            LocalDateTime.parse(parts[0]);
+            UUID.fromString(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ValidationException("El cursor es invalido");
+        }
+    }
+}
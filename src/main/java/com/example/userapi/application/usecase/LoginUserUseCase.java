@@ -0,0 +1,49 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.dto.LoginRequest;
+import com.example.userapi.application.dto.UserResponse;
+import com.example.userapi.application.mapper.UserMapper;
+import com.example.userapi.domain.model.User;
+import com.example.userapi.domain.service.UserService;
+import com.example.userapi.infrastructure.logging.LogMasking;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Use Case Pattern - Caso de uso para el inicio de sesion.
+ * Verifica las credenciales y emite un token nuevo. No escribe en la base de datos:
+ * el last_login se registra en el buffer write-behind del repositorio.
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class LoginUserUseCase {
+
+    private final UserService userService;
+    private final UserMapper userMapper;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public LoginUserUseCase(UserService userService, UserMapper userMapper, JwtTokenProvider jwtTokenProvider) {
+        this.userService = userService;
+        this.userMapper = userMapper;
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    /**
+     * Ejecuta el caso de uso de inicio de sesion
+     * 
+     * @param request Credenciales del usuario
+     * @return UserResponse con los datos del usuario y el token emitido
+     */
+    public UserResponse execute(LoginRequest request) {
+        User user = userService.authenticate(request.getEmail(), request.getPassword());
+        
+        UserResponse response = userMapper.toResponse(user);
+        response.setToken(jwtTokenProvider.generateToken(user));
+        
+        log.debug("Inicio de sesion exitoso: {}", LogMasking.email(user.getEmail()));
+        return response;
+    }
+}
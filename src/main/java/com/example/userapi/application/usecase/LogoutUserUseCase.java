@@ -0,0 +1,33 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.domain.exception.InvalidCredentialsException;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Use Case Pattern - Caso de uso para cerrar sesion revocando el token presentado.
+ * El token queda revocado por su jti hasta su expiracion.
+ */
+@Component
+@Slf4j
+public class LogoutUserUseCase {
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public LogoutUserUseCase(JwtTokenProvider jwtTokenProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    /**
+     * Ejecuta el caso de uso de cierre de sesion
+     *
+     * @param token Token JWT a revocar
+     */
+    public void execute(String token) {
+        if (token == null || token.isBlank() || !jwtTokenProvider.revoke(token)) {
+            throw new InvalidCredentialsException("Token invalido");
+        }
+        log.debug("Token revocado");
+    }
+}
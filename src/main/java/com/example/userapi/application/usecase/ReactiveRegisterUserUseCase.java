@@ -0,0 +1,113 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.dto.RegisterUserRequest;
+import com.example.userapi.application.dto.UserResponse;
+import com.example.userapi.application.mapper.UserMapper;
+import com.example.userapi.domain.exception.BusinessException;
+import com.example.userapi.domain.exception.ServiceOverloadedException;
+import com.example.userapi.domain.model.User;
+import com.example.userapi.domain.repository.ReactiveUserRepository;
+import com.example.userapi.domain.service.InFlightRegistrations;
+import com.example.userapi.domain.service.UserRegistrationPolicy;
+import com.example.userapi.infrastructure.logging.LogMasking;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Use Case Pattern - Version no bloqueante del registro de usuario (perfil {@code reactive}).
+ * Aplica las mismas reglas que {@link RegisterUserUseCase} (a traves de {@link UserRegistrationPolicy}):
+ * las validaciones de formato se ejecutan en linea, el hash y la firma del token en un scheduler
+ * acotado y la verificacion de duplicados y el INSERT a traves de R2DBC.
+ * Los registros concurrentes del mismo email se serializan con {@link InFlightRegistrations},
+ * igual que en {@link com.example.userapi.domain.service.UserService#registerUser}.
+ * A diferencia del registro servlet, ignora la cabecera {@code Idempotency-Key} (el almacen de
+ * idempotencia espera bloqueando): un reintento de un registro ya confirmado responde como correo duplicado.
+ */
+@Component
+@Profile("reactive")
+@Slf4j
+public class ReactiveRegisterUserUseCase {
+    
+    private final UserRegistrationPolicy registrationPolicy;
+    private final UserMapper userMapper;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final Scheduler registrationScheduler;
+    private final InFlightRegistrations inFlightRegistrations;
+    
+    public ReactiveRegisterUserUseCase(UserRegistrationPolicy registrationPolicy, UserMapper userMapper,
+                                       JwtTokenProvider jwtTokenProvider,
+                                       ReactiveUserRepository reactiveUserRepository,
+                                       Scheduler registrationScheduler,
+                                       InFlightRegistrations inFlightRegistrations) {
+        this.registrationPolicy = registrationPolicy;
+        this.userMapper = userMapper;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.reactiveUserRepository = reactiveUserRepository;
+        this.registrationScheduler = registrationScheduler;
+        this.inFlightRegistrations = inFlightRegistrations;
+    }
+    
+    /**
+     * Ejecuta el caso de uso de registro de usuario
+     * 
+     * @param request Datos del usuario a registrar
+     * @return UserResponse con los datos del usuario registrado y su token
+     */
+    public Mono<UserResponse> execute(RegisterUserRequest request) {
+        return Mono.fromCallable(() -> {
+                    // 1. Validaciones de formato (CPU minima, en el event loop)
+                    registrationPolicy.validateEmail(request.getEmail());
+                    registrationPolicy.validatePassword(request.getPassword());
+                    return userMapper.toEntity(request);
+                })
+                // 2. Reserva del email frente a registros concurrentes, liberada al terminar
+                .flatMap(user -> Mono.usingWhen(
+                        reserve(user.getEmail()),
+                        registration -> register(user, request.getPassword()),
+                        registration -> release(registration, true),
+                        (registration, error) -> release(registration, false),
+                        registration -> release(registration, false)))
+                .map(userMapper::toResponse)
+                .doOnNext(response -> log.info("Usuario registrado exitosamente: {}", LogMasking.email(response.getEmail())));
+    }
+    
+    private Mono<User> register(User user, String rawPassword) {
+        // 3. Verificacion de duplicados sin bloquear
+        return reactiveUserRepository.existsByEmail(user.getEmail())
+                .flatMap(exists -> exists
+                        ? Mono.<User>error(new BusinessException("El correo ya registrado"))
+                        : Mono.just(user))
+                // 4. Hash de la contraseña y token en el scheduler acotado
+                .flatMap(candidate -> Mono.fromCallable(() -> {
+                            registrationPolicy.prepareForPersistence(candidate, rawPassword);
+                            candidate.updateToken(jwtTokenProvider.generateToken(candidate));
+                            return candidate;
+                        })
+                        .subscribeOn(registrationScheduler)
+                        .onErrorMap(RejectedExecutionException.class,
+                                ex -> new ServiceOverloadedException("Servicio temporalmente saturado, intente nuevamente")))
+                // 5. Persistencia (usuario y telefonos en una transaccion)
+                .flatMap(reactiveUserRepository::save);
+    }
+    
+    /**
+     * La reserva puede esperar el resultado de un registro concurrente del mismo email,
+     * por lo que se toma fuera de los event loops
+     */
+    private Mono<InFlightRegistrations.Registration> reserve(String email) {
+        return Mono.fromCallable(() -> inFlightRegistrations.acquire(email))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+    
+    private Mono<Void> release(InFlightRegistrations.Registration registration, boolean registered) {
+        return Mono.fromRunnable(() -> inFlightRegistrations.release(registration, registered));
+    }
+}
@@ -5,24 +5,38 @@ import com.example.userapi.application.dto.UserResponse;
 import com.example.userapi.application.mapper.UserMapper;
 import com.example.userapi.domain.model.User;
 import com.example.userapi.domain.service.UserService;
+import com.example.userapi.infrastructure.logging.LogMasking;
 import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Use Case Pattern - Caso de uso para el registro de usuarios.
  * Orquesta las operaciones necesarias para completar el caso de uso.
  * Coordina entre la capa de dominio y la infraestructura.
+ * Cada etapa (map, register, respond) se mide con un timer registrado de antemano;
+ * la emision del token ocurre dentro de register, antes del unico INSERT.
+ * No es transaccional: la espera por registros concurrentes del mismo email y el hash
+ * no retienen una conexion del pool; la transaccion se limita al save.
  */
 @Component
+@Profile("!reactive")
 @Slf4j
-public class RegisterUserUseCase {
+public class RegisterUserUseCase implements MeterBinder {
 
 
     private final UserService userService;
     private final UserMapper userMapper;
     private final JwtTokenProvider jwtTokenProvider;
+    
+    private volatile StageTimers stageTimers;
 
     public RegisterUserUseCase(UserService userService, UserMapper userMapper, JwtTokenProvider jwtTokenProvider) {
         this.userService = userService;
@@ -37,26 +51,53 @@ public class RegisterUserUseCase {
      * @param request Datos del usuario a registrar
      * @return UserResponse con los datos del usuario registrado y su token
      */
-    @Transactional
     public UserResponse execute(RegisterUserRequest request) {
-        log.info("Ejecutando caso de uso: Registrar usuario");
+        log.debug("Ejecutando caso de uso: Registrar usuario");
+        
+        StageTimers timers = stageTimers;
+        long start = System.nanoTime();
         
         // 1. Convertir DTO a entidad de dominio
         User user = userMapper.toEntity(request);
+        long mapped = System.nanoTime();
         
-        // 2. Registrar usuario (se ejecuta la logica de negocio)
-        User registeredUser = userService.registerUser(user, request.getPassword());
-        
-        // 3. Generar token JWT
-        String token = jwtTokenProvider.generateToken(registeredUser.getEmail());
+        // 2. Registrar usuario (logica de negocio); el token se genera antes del INSERT
+        User registeredUser = userService.registerUser(user, request.getPassword(),
+                jwtTokenProvider::generateToken);
+        long registered = System.nanoTime();
         
-        // 4. Actualizar el token en el usuario
-        userService.updateUserToken(registeredUser, token);
-        
-        // 5. Convertir entidad de dominio a DTO de respuesta
+        // 3. Convertir entidad de dominio a DTO de respuesta
         UserResponse response = userMapper.toResponse(registeredUser);
         
-        log.info("Usuario registrado exitosamente: {}", registeredUser.getEmail());
+        if (timers != null) {
+            timers.map().record(mapped - start, TimeUnit.NANOSECONDS);
+            timers.register().record(registered - mapped, TimeUnit.NANOSECONDS);
+            timers.respond().record(System.nanoTime() - registered, TimeUnit.NANOSECONDS);
+        }
+        
+        log.info("Usuario registrado exitosamente: {}", LogMasking.email(registeredUser.getEmail()));
         return response;
     }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        stageTimers = new StageTimers(stageTimer(registry, "map"), stageTimer(registry, "register"),
+                stageTimer(registry, "respond"));
+    }
+    
+    private static Timer stageTimer(MeterRegistry registry, String stage) {
+        return Timer.builder("users.registration.stage")
+                .description("Duracion de cada etapa del caso de uso de registro")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+    }
+    
+    /**
+     * Timers de las etapas, publicados juntos una vez registrados
+     */
+    private record StageTimers(Timer map, Timer register, Timer respond) {
+    }
 }
@@ -0,0 +1,273 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.dto.BatchRegisterItemResult;
+import com.example.userapi.application.dto.BatchRegisterResponse;
+import com.example.userapi.application.dto.RegisterUserRequest;
+import com.example.userapi.application.mapper.UserMapper;
+import com.example.userapi.domain.exception.BatchTooLargeException;
+import com.example.userapi.domain.exception.ServiceOverloadedException;
+import com.example.userapi.domain.exception.ValidationException;
+import com.example.userapi.domain.model.User;
+import com.example.userapi.domain.service.UserService;
+import com.example.userapi.infrastructure.persistence.UniqueConstraintViolations;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case Pattern - Caso de uso para el registro masivo de usuarios.
+ * Valida cada elemento de forma independiente, verifica duplicados con una sola
+ * consulta por bloque, calcula los hashes de cada bloque en paralelo y persiste los
+ * usuarios en transacciones por bloque para aprovechar los INSERT por lotes de JDBC/Hibernate.
+ * Si un bloque choca con un registro concurrente del mismo correo, esos elementos responden 409
+ * y el resto del bloque se reintenta; si el pool de hashing se satura, el bloque en curso y los
+ * siguientes responden 503, conservando los resultados de los bloques ya confirmados.
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class RegisterUsersBatchUseCase {
+
+    private final UserService userService;
+    private final UserMapper userMapper;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Validator validator;
+
+    /**
+     * Reintentos de un bloque tras descartar los correos registrados concurrentemente
+     */
+    private static final int MAX_CONFLICT_RETRIES = 3;
+
+    @Value("${registration.batch.max-size:10000}")
+    private int maxBatchSize;
+
+    @Value("${registration.batch.chunk-size:500}")
+    private int chunkSize;
+
+    public RegisterUsersBatchUseCase(UserService userService, UserMapper userMapper,
+                                     JwtTokenProvider jwtTokenProvider, Validator validator) {
+        this.userService = userService;
+        this.userMapper = userMapper;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.validator = validator;
+    }
+
+    /**
+     * Ejecuta el caso de uso de registro por lotes
+     *
+     * @param requests Datos de los usuarios a registrar, en orden
+     * @return BatchRegisterResponse con el resultado de cada elemento
+     */
+    public BatchRegisterResponse execute(List<RegisterUserRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ValidationException("El lote de usuarios no puede estar vacio");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new BatchTooLargeException(maxBatchSize);
+        }
+        log.info("Ejecutando caso de uso: Registrar lote de {} usuarios", requests.size());
+
+        BatchRegisterItemResult[] results = new BatchRegisterItemResult[requests.size()];
+
+        // 1. Validaciones por elemento (formato y duplicados dentro del mismo lote)
+        Map<String, Integer> pending = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            RegisterUserRequest request = requests.get(i);
+            try {
+                validateRequest(request);
+            } catch (ValidationException ex) {
+                results[i] = failure(i, HttpStatus.BAD_REQUEST, ex.getMessage());
+                continue;
+            }
+            if (pending.putIfAbsent(request.getEmail(), i) != null) {
+                results[i] = failure(i, HttpStatus.CONFLICT, "El correo ya registrado");
+            }
+        }
+
+        // 2. Verificacion de duplicados contra la base de datos, una consulta por bloque
+        List<String> candidateEmails = new ArrayList<>(pending.keySet());
+        Set<String> registeredEmails = new HashSet<>();
+        for (int from = 0; from < candidateEmails.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, candidateEmails.size());
+            registeredEmails.addAll(userService.findRegisteredEmails(candidateEmails.subList(from, to)));
+        }
+
+        // 3. Preparacion (hashes en paralelo y tokens) y persistencia por bloques
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+        boolean overloaded = false;
+        for (Map.Entry<String, Integer> entry : pending.entrySet()) {
+            int index = entry.getValue();
+            if (registeredEmails.contains(entry.getKey())) {
+                results[index] = failure(index, HttpStatus.CONFLICT, "El correo ya registrado");
+                continue;
+            }
+            if (overloaded) {
+                results[index] = overloadedFailure(index);
+                continue;
+            }
+            chunkIndexes.add(index);
+
+            if (chunkIndexes.size() == chunkSize) {
+                overloaded = !prepareAndPersistChunk(requests, chunkIndexes, results);
+                chunkIndexes = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunkIndexes.isEmpty()) {
+            prepareAndPersistChunk(requests, chunkIndexes, results);
+        }
+
+        List<BatchRegisterItemResult> resultList = Arrays.asList(results);
+        int created = (int) resultList.stream()
+                .filter(result -> result.getStatus() == HttpStatus.CREATED.value())
+                .count();
+
+        log.info("Lote procesado: {} registrados, {} rechazados", created, requests.size() - created);
+        return BatchRegisterResponse.builder()
+                .total(requests.size())
+                .created(created)
+                .failed(requests.size() - created)
+                .results(resultList)
+                .build();
+    }
+
+    /**
+     * Aplica las validaciones de Bean Validation y las reglas de formato del dominio
+     */
+    private void validateRequest(RegisterUserRequest request) {
+        if (request == null) {
+            throw new ValidationException("El elemento del lote no puede ser null");
+        }
+        Set<ConstraintViolation<RegisterUserRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ValidationException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining(", ")));
+        }
+        userService.validateEmail(request.getEmail());
+        userService.validatePassword(request.getPassword());
+    }
+
+    /**
+     * Calcula los hashes del bloque en paralelo sobre el pool acotado de hashing,
+     * emite los tokens y persiste el bloque
+     *
+     * @return false si el pool de hashing esta saturado; los elementos del bloque quedan con 503
+     */
+    private boolean prepareAndPersistChunk(List<RegisterUserRequest> requests, List<Integer> indexes,
+                                           BatchRegisterItemResult[] results) {
+        List<User> users = new ArrayList<>(indexes.size());
+        List<String> rawPasswords = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            RegisterUserRequest request = requests.get(index);
+            users.add(userMapper.toEntity(request));
+            rawPasswords.add(request.getPassword());
+        }
+        try {
+            userService.prepareForPersistence(users, rawPasswords);
+        } catch (ServiceOverloadedException ex) {
+            log.warn("Pool de hashing saturado: se rechazan los {} elementos restantes del bloque", indexes.size());
+            for (int index : indexes) {
+                results[index] = overloadedFailure(index);
+            }
+            return false;
+        }
+        users.forEach(user -> user.updateToken(jwtTokenProvider.generateToken(user)));
+        persistChunk(requests, indexes, users, results);
+        return true;
+    }
+
+    /**
+     * Persiste un bloque en su propia transaccion. Si falla por la restriccion unica del correo
+     * (un registro concurrente, posiblemente de otra instancia), los correos ya registrados
+     * responden 409 y el resto del bloque se reintenta; cualquier otro error marca solo los
+     * elementos de ese bloque con 500.
+     */
+    private void persistChunk(List<RegisterUserRequest> requests, List<Integer> indexes, List<User> users,
+                              BatchRegisterItemResult[] results) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                List<User> saved = userService.saveUsers(users);
+                for (int i = 0; i < saved.size(); i++) {
+                    int index = indexes.get(i);
+                    results[index] = BatchRegisterItemResult.builder()
+                            .index(index)
+                            .status(HttpStatus.CREATED.value())
+                            .user(userMapper.toResponse(saved.get(i)))
+                            .build();
+                }
+                return;
+            } catch (DataAccessException ex) {
+                Set<String> conflicts = attempt < MAX_CONFLICT_RETRIES
+                        && UniqueConstraintViolations.isViolationOf(ex, UniqueConstraintViolations.USERS_EMAIL)
+                        ? userService.confirmRegisteredEmails(users.stream().map(User::getEmail).toList())
+                        : Set.of();
+                if (conflicts.isEmpty()) {
+                    log.error("Error persistiendo bloque de {} usuarios: ", users.size(), ex);
+                    for (int index : indexes) {
+                        results[index] = failure(index, HttpStatus.INTERNAL_SERVER_ERROR, "Error interno del servidor");
+                    }
+                    return;
+                }
+                List<Integer> retryIndexes = new ArrayList<>(indexes.size());
+                List<User> retryUsers = new ArrayList<>(indexes.size());
+                for (int i = 0; i < users.size(); i++) {
+                    int index = indexes.get(i);
+                    User user = users.get(i);
+                    if (conflicts.contains(user.getEmail())) {
+                        results[index] = failure(index, HttpStatus.CONFLICT, "El correo ya registrado");
+                    } else {
+                        retryIndexes.add(index);
+                        retryUsers.add(retryCopy(requests.get(index), user));
+                    }
+                }
+                log.debug("Bloque con {} correos registrados concurrentemente, reintentando {} usuarios",
+                        conflicts.size(), retryUsers.size());
+                if (retryUsers.isEmpty()) {
+                    return;
+                }
+                indexes = retryIndexes;
+                users = retryUsers;
+            }
+        }
+    }
+
+    /**
+     * Entidad nueva para reintentar el INSERT: la del intento revertido puede haber quedado marcada
+     * como persistida y con IDs de telefono asignados. Conserva el ID, el hash y el token ya calculados.
+     */
+    private User retryCopy(RegisterUserRequest request, User prepared) {
+        User copy = userMapper.toEntity(request);
+        copy.setId(prepared.getId());
+        copy.setPassword(prepared.getPassword());
+        copy.activate();
+        copy.updateToken(prepared.getToken());
+        return copy;
+    }
+
+    private BatchRegisterItemResult overloadedFailure(int index) {
+        return failure(index, HttpStatus.SERVICE_UNAVAILABLE, "Servicio temporalmente saturado, intente nuevamente");
+    }
+
+    private BatchRegisterItemResult failure(int index, HttpStatus status, String mensaje) {
+        return BatchRegisterItemResult.builder()
+                .index(index)
+                .status(status.value())
+                .mensaje(mensaje)
+                .build();
+    }
+}
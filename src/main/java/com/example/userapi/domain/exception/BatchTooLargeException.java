@@ -0,0 +1,11 @@
+package com.example.userapi.domain.exception;
+
+/**
+ * Excepcion para un lote que excede el tamaño maximo permitido (413)
+ */
+public class BatchTooLargeException extends ValidationException {
+    
+    public BatchTooLargeException(int maxBatchSize) {
+        super("El lote excede el tamaño maximo permitido de " + maxBatchSize);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.userapi.domain.exception;
+
+/**
+ * Excepcion para una Idempotency-Key reutilizada con una peticion distinta a la original
+ */
+public class IdempotencyConflictException extends RuntimeException {
+    
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
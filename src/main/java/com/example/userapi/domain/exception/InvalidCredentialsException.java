@@ -0,0 +1,11 @@
+package com.example.userapi.domain.exception;
+
+/**
+ * Excepcion para un inicio de sesion con email o contraseña incorrectos, o de un usuario inactivo
+ */
+public class InvalidCredentialsException extends RuntimeException {
+    
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+}
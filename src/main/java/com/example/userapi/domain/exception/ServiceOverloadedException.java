@@ -0,0 +1,11 @@
+package com.example.userapi.domain.exception;
+
+/**
+ * Excepcion para rechazar trabajo cuando un recurso acotado esta saturado
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -6,19 +6,50 @@ import lombok.*;
 import java.util.UUID;
 
 /**
- * Value Object que representa un telefono.
+ * Entidad que representa un telefono, propiedad del {@link User} (se persiste y elimina en cascada).
+ * Tiene identificador propio para que Hibernate actualice solo los telefonos modificados,
+ * en lugar de reescribir la coleccion completa. La igualdad es por valor (numero y codigos).
  */
-@Embeddable
+@Entity
+@Table(name = "phones", indexes = {
+        @Index(name = "idx_phones_user_id", columnList = "user_id"),
+        @Index(name = "idx_phones_number", columnList = "contrycode, citycode, number")
+})
 @Getter
 @Setter
 @EqualsAndHashCode
 @ToString
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 public class Phone {
 
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @EqualsAndHashCode.Exclude
+    private UUID id;
+
     private String number;
     private String citycode;
     private String contrycode;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private User user;
+
+    @Builder
+    public Phone(String number, String citycode, String contrycode) {
+        this.number = number;
+        this.citycode = citycode;
+        this.contrycode = contrycode;
+    }
+
+    /**
+     * Copia desacoplada con el mismo ID y sin usuario asociado
+     */
+    public Phone copy() {
+        Phone copy = new Phone(number, citycode, contrycode);
+        copy.id = id;
+        return copy;
+    }
 }
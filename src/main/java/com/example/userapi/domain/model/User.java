@@ -2,6 +2,8 @@ package com.example.userapi.domain.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -11,9 +13,13 @@ import java.util.UUID;
 /**
  * Entidad Agregada (Aggregate Root) que representa un Usuario.
  * Sigue los principios de DDD - encapsula la lógica de negocio del dominio.
+ * El identificador se asigna en la aplicacion (ver {@link #assignId()}), lo que
+ * permite emitir el token antes del INSERT y persistir el usuario en una sola escritura.
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+        indexes = @Index(name = "idx_users_created_id", columnList = "created, id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_users_email", columnNames = "email"))
 @Getter
 @Setter
 @EqualsAndHashCode
@@ -21,28 +27,40 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class User {
+public class User implements Persistable<UUID> {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     @Column(updatable = false, nullable = false)
     private UUID id;
     
     @Column(nullable = false)
     private String name;
     
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
     
     @Column(nullable = false)
     private String password;
     
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "phones", joinColumns = @JoinColumn(name = "user_id"))
+    /**
+     * Telefonos del usuario, cargados bajo demanda; al recorrer varios usuarios
+     * se inicializan en lotes (una consulta cada 50 usuarios). Se excluyen de equals/hashCode
+     * para no inicializar la coleccion (ni fallar con un usuario desacoplado) al comparar.
+     */
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private List<Phone> phones = new ArrayList<>();
     
-    @Column(columnDefinition = "TEXT")
+    /**
+     * Token emitido en la operacion actual (registro o inicio de sesion), solo para la respuesta.
+     * No se persiste: la revocacion se resuelve por el jti del token.
+     */
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private String token;
     
     @Column(nullable = false)
@@ -57,6 +75,57 @@ public class User {
     @Column(nullable = false)
     private Boolean isactive;
     
+    /**
+     * Rol de administrador: habilita el listado, la busqueda y la exportacion de usuarios.
+     * Nunca se asigna desde la API; lo otorga un operador directamente en la base de datos.
+     */
+    @Column(nullable = false)
+    private boolean admin;
+    
+    /**
+     * Indica si la entidad ya fue persistida o cargada desde la base de datos.
+     * Como el ID se asigna antes de guardar, Spring Data lo usa para decidir
+     * entre persist (INSERT directo) y merge (SELECT + INSERT/UPDATE).
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean persisted;
+    
+    /**
+     * Metodo de dominio para asignar el identificador antes de persistir
+     */
+    public void assignId() {
+        if (this.id == null) {
+            this.id = UUID.randomUUID();
+        }
+    }
+    
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+    
+    /**
+     * Metodo de dominio para agregar un telefono al usuario
+     */
+    public void addPhone(Phone phone) {
+        phone.setUser(this);
+        this.phones.add(phone);
+    }
+    
+    /**
+     * Asocia cada telefono a este usuario (lado propietario de la relacion),
+     * para los telefonos asignados con el builder o con setPhones
+     */
+    void linkPhones() {
+        if (this.phones != null) {
+            this.phones.forEach(phone -> phone.setUser(this));
+        }
+    }
+    
     /**
      * Metodo de dominio para activar el usuario
      */
@@ -75,8 +144,9 @@ public class User {
      * Método de dominio para actualizar el último login
      */
     public void updateLastLogin() {
-        this.lastLogin = LocalDateTime.now();
-        this.modified = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now();
+        this.lastLogin = now;
+        this.modified = now;
     }
     
     /**
@@ -99,6 +169,16 @@ public class User {
         if (this.isactive == null) {
             this.isactive = true;
         }
+        linkPhones();
+    }
+    
+    /**
+     * Hook del ciclo de vida JPA - marca la entidad como ya persistida
+     */
+    @PostPersist
+    @PostLoad
+    protected void markPersisted() {
+        this.persisted = true;
     }
     
     /**
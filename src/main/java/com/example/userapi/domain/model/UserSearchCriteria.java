@@ -0,0 +1,22 @@
+package com.example.userapi.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Criterios de busqueda de usuarios con paginacion por keyset sobre (created, id).
+ * Los campos nulos no filtran.
+ *
+ * @param afterCreated Fecha de creacion del ultimo elemento de la pagina anterior
+ * @param afterId ID del ultimo elemento de la pagina anterior
+ * @param limit Cantidad maxima de elementos a retornar
+ */
+public record UserSearchCriteria(
+        Boolean isactive,
+        String emailPrefix,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        LocalDateTime afterCreated,
+        UUID afterId,
+        int limit) {
+}
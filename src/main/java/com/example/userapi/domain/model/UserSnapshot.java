@@ -0,0 +1,82 @@
+package com.example.userapi.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Proyeccion inmutable de un {@link User}, apta para compartirse entre hilos
+ * (por ejemplo, dentro de una cache) sin exponer la entidad administrada por JPA.
+ * No incluye el token, que solo existe en la respuesta de la operacion que lo emitio.
+ */
+public record UserSnapshot(
+        UUID id,
+        String name,
+        String email,
+        String password,
+        List<Phone> phones,
+        LocalDateTime created,
+        LocalDateTime modified,
+        LocalDateTime lastLogin,
+        Boolean isactive,
+        boolean admin) {
+    
+    /**
+     * Crea la proyeccion copiando el estado actual del usuario
+     */
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getName(),
+                user.getEmail(),
+                user.getPassword(),
+                copyPhones(user.getPhones()),
+                user.getCreated(),
+                user.getModified(),
+                user.getLastLogin(),
+                user.getIsactive(),
+                user.isAdmin());
+    }
+    
+    /**
+     * Reconstruye un usuario desacoplado (detached) a partir de la proyeccion.
+     * Cada llamada retorna una instancia nueva; para persistir cambios debe usarse save.
+     */
+    public User toUser() {
+        User user = User.builder()
+                .id(id)
+                .name(name)
+                .email(email)
+                .password(password)
+                .phones(new ArrayList<>(copyPhones(phones)))
+                .created(created)
+                .modified(modified)
+                .lastLogin(lastLogin)
+                .isactive(isactive)
+                .admin(admin)
+                .build();
+        user.markPersisted();
+        user.linkPhones();
+        return user;
+    }
+    
+    /**
+     * Retorna la proyeccion con el inicio de sesion dado, o la misma si ya tenia uno posterior
+     */
+    public UserSnapshot withLastLogin(LocalDateTime login) {
+        if (lastLogin != null && !login.isAfter(lastLogin)) {
+            return this;
+        }
+        return new UserSnapshot(id, name, email, password, phones, created, login, login, isactive, admin);
+    }
+    
+    private static List<Phone> copyPhones(List<Phone> phones) {
+        if (phones == null) {
+            return List.of();
+        }
+        return phones.stream()
+                .map(Phone::copy)
+                .toList();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.userapi.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Proyeccion de lectura de un usuario, sin contraseña ni token
+ */
+public record UserSummary(
+        UUID id,
+        String name,
+        String email,
+        List<Phone> phones,
+        LocalDateTime created,
+        LocalDateTime modified,
+        LocalDateTime lastLogin,
+        Boolean isactive) {
+}
@@ -0,0 +1,28 @@
+package com.example.userapi.domain.repository;
+
+import com.example.userapi.domain.model.User;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repository Pattern - Version no bloqueante del repositorio de usuarios.
+ * Define solo las operaciones del flujo de registro; la implementacion
+ * esta en la capa de infraestructura.
+ * Es un puerto aparte de {@link UserRepository} y no un segundo adaptador suyo: ese contrato retorna
+ * valores ya resueltos, y un adaptador R2DBC tendria que bloquear el event loop para cumplirlo.
+ */
+public interface ReactiveUserRepository {
+    
+    /**
+     * Guarda un usuario nuevo junto con sus telefonos
+     * @param user Usuario con su ID ya asignado
+     * @return Usuario guardado
+     */
+    Mono<User> save(User user);
+    
+    /**
+     * Verifica si existe un usuario con el email dado
+     * @param email Email a verificar
+     * @return true si existe, false en caso contrario
+     */
+    Mono<Boolean> existsByEmail(String email);
+}
@@ -1,9 +1,16 @@
 package com.example.userapi.domain.repository;
 
 import com.example.userapi.domain.model.User;
+import com.example.userapi.domain.model.UserSearchCriteria;
+import com.example.userapi.domain.model.UserSummary;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Repository Pattern - Interface del repositorio de usuarios.
@@ -19,6 +26,13 @@ public interface UserRepository {
      */
     User save(User user);
     
+    /**
+     * Guarda un lote de usuarios en una sola operacion
+     * @param users Usuarios a guardar
+     * @return Usuarios guardados con sus IDs generados
+     */
+    List<User> saveAll(List<User> users);
+    
     /**
      * Busca un usuario por su email
      * @param email Email del usuario
@@ -39,4 +53,52 @@ public interface UserRepository {
      * @return true si existe, false en caso contrario
      */
     boolean existsByEmail(String email);
+    
+    /**
+     * Obtiene, en una sola consulta, cuales de los emails dados ya estan registrados
+     * @param emails Emails a verificar
+     * @return Subconjunto de emails que ya existen
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+    
+    /**
+     * Igual que {@link #findExistingEmails(Collection)}, pero consultando siempre la base de datos,
+     * sin atajos en memoria: detecta emails que otra instancia registro recientemente
+     * @param emails Emails a verificar
+     * @return Subconjunto de emails que ya existen
+     */
+    Set<String> confirmExistingEmails(Collection<String> emails);
+    
+    /**
+     * Busca usuarios paginando por keyset sobre (created, id), sin cargar contraseña ni token
+     * @param criteria Filtros, posicion de la pagina anterior y limite
+     * @return Usuarios de la pagina, ordenados por fecha de creacion e ID
+     */
+    List<UserSummary> search(UserSearchCriteria criteria);
+    
+    /**
+     * Busca los usuarios que tienen registrado el telefono dado, sin cargar contraseña ni token
+     * @param contrycode Codigo de pais
+     * @param citycode Codigo de ciudad
+     * @param number Numero de telefono
+     * @param limit Cantidad maxima de usuarios a retornar
+     * @return Usuarios ordenados por fecha de creacion e ID
+     */
+    List<UserSummary> findByPhone(String contrycode, String citycode, String number, int limit);
+    
+    /**
+     * Recorre todos los usuarios en orden de ID, sin cargar contraseña ni token ni mantener
+     * entidades en memoria, entregandolos uno a uno al consumidor
+     * @param consumer Receptor de cada usuario
+     * @return Cantidad de usuarios recorridos
+     */
+    long forEachUser(Consumer<UserSummary> consumer);
+    
+    /**
+     * Registra el ultimo inicio de sesion del usuario. La escritura puede diferirse y
+     * agruparse con otras (write-behind); los registros repetidos conservan el mas reciente
+     * @param id ID del usuario
+     * @param lastLogin Fecha del inicio de sesion
+     */
+    void recordLastLogin(UUID id, LocalDateTime lastLogin);
 }
@@ -0,0 +1,88 @@
+package com.example.userapi.domain.service;
+
+import com.example.userapi.domain.exception.BusinessException;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Registro de los emails con un alta en curso, por email normalizado.
+ * Un segundo registro concurrente del mismo email espera el resultado del primero en lugar
+ * de repetir la verificacion y el hash: si el primero se confirma falla como duplicado,
+ * y si el primero falla toma su lugar. El mapa concurrente bloquea solo por bin,
+ * por lo que emails distintos no compiten entre si.
+ */
+public class InFlightRegistrations {
+    
+    private final ConcurrentHashMap<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final long waitMillis;
+    
+    public InFlightRegistrations(long waitMillis) {
+        this.waitMillis = waitMillis;
+    }
+    
+    /**
+     * Reserva el email para el hilo actual, esperando el registro en curso si lo hay
+     * 
+     * @throws BusinessException si el email quedo registrado por la peticion concurrente,
+     *         o si esta no termina dentro del tiempo de espera
+     */
+    public Registration acquire(String email) {
+        String key = normalize(email);
+        while (true) {
+            CompletableFuture<Boolean> reservation = new CompletableFuture<>();
+            CompletableFuture<Boolean> current = inFlight.putIfAbsent(key, reservation);
+            if (current == null) {
+                return new Registration(key, reservation);
+            }
+            if (awaitOutcome(current)) {
+                throw new BusinessException("El correo ya registrado");
+            }
+            // El registro concurrente fallo: se intenta reservar nuevamente
+        }
+    }
+    
+    /**
+     * Libera la reserva y notifica el resultado a los registros en espera
+     * 
+     * @param registered true si el usuario quedo persistido y confirmado
+     */
+    public void release(Registration registration, boolean registered) {
+        inFlight.remove(registration.key(), registration.outcome());
+        registration.outcome().complete(registered);
+    }
+    
+    /**
+     * Cantidad de registros en curso
+     */
+    public int size() {
+        return inFlight.size();
+    }
+    
+    private boolean awaitOutcome(CompletableFuture<Boolean> outcome) {
+        try {
+            return outcome.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw new BusinessException("El correo tiene un registro en curso, intente nuevamente");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("El correo tiene un registro en curso, intente nuevamente");
+        } catch (ExecutionException ex) {
+            return false;
+        }
+    }
+    
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Reserva de un email obtenida con {@link #acquire(String)}
+     */
+    public record Registration(String key, CompletableFuture<Boolean> outcome) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.userapi.domain.service;
+
+import com.example.userapi.domain.exception.ValidationException;
+import com.example.userapi.domain.model.User;
+import com.example.userapi.domain.validation.ValidationRuleEngine;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Reglas del alta de usuario que no dependen del repositorio: formato del email y de la
+ * contraseña, y preparacion del usuario para persistirlo.
+ * Las comparten {@link UserService} y el registro del perfil {@code reactive}, que no tiene
+ * un {@code UserRepository} bloqueante.
+ */
+public class UserRegistrationPolicy {
+    
+    private final ValidationRuleEngine validationRuleEngine;
+    private final PasswordEncoder passwordEncoder;
+    
+    public UserRegistrationPolicy(ValidationRuleEngine validationRuleEngine, PasswordEncoder passwordEncoder) {
+        this.validationRuleEngine = validationRuleEngine;
+        this.passwordEncoder = passwordEncoder;
+    }
+    
+    /**
+     * Strategy Pattern - Valida el formato del email segun la regla configurable precompilada
+     */
+    public void validateEmail(String email) {
+        if (email == null || email.trim().isEmpty()) {
+            throw new ValidationException("El correo es obligatorio");
+        }
+        
+        if (!validationRuleEngine.isValidEmail(email)) {
+            throw new ValidationException("El formato del correo es invalido");
+        }
+    }
+    
+    /**
+     * Strategy Pattern - Valida el formato de la contraseña segun la regla configurable precompilada
+     */
+    public void validatePassword(String password) {
+        if (password == null || password.trim().isEmpty()) {
+            throw new ValidationException("La contraseña es obligatoria");
+        }
+        
+        if (!validationRuleEngine.isValidPassword(password)) {
+            throw new ValidationException("El formato de la contraseña es invalido");
+        }
+    }
+    
+    /**
+     * Asigna el ID, encripta la contraseña y activa el usuario por defecto,
+     * dejandolo listo para ser persistido
+     */
+    public void prepareForPersistence(User user, String rawPassword) {
+        user.assignId();
+        String encodedPassword = passwordEncoder.encode(rawPassword);
+        user.setPassword(encodedPassword);
+        user.activate();
+    }
+}
@@ -1,66 +1,79 @@
 package com.example.userapi.domain.service;
 
 import com.example.userapi.domain.exception.BusinessException;
-import com.example.userapi.domain.exception.ValidationException;
+import com.example.userapi.domain.exception.InvalidCredentialsException;
 import com.example.userapi.domain.model.User;
 import com.example.userapi.domain.repository.UserRepository;
+import com.example.userapi.domain.validation.ValidationRuleEngine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 
 /**
  * Service Pattern - Servicio de dominio que contiene la lógica de negocio.
  * Esta clase no debe depender de detalles de infraestructura.
  */
 @Service
+@Profile("!reactive")
 @Slf4j
 
 public class UserService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final InFlightRegistrations inFlightRegistrations;
+    private final UserRegistrationPolicy registrationPolicy;
     
-    @Value("${validation.email.regexp}")
-    private String emailRegexp;
-    
-    @Value("${validation.password.regexp}")
-    private String passwordRegexp;
+    private volatile String unknownUserHash;
+
+    @Value("${registration.batch.hashing-parallelism:0}")
+    private int hashingParallelism;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    @Autowired
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       ValidationRuleEngine validationRuleEngine,
+                       @Value("${registration.in-flight.wait-ms:5000}") long inFlightWaitMs) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.inFlightRegistrations = new InFlightRegistrations(inFlightWaitMs);
+        this.registrationPolicy = new UserRegistrationPolicy(validationRuleEngine, passwordEncoder);
+    }
+
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       ValidationRuleEngine validationRuleEngine) {
+        this(userRepository, passwordEncoder, validationRuleEngine, 5000);
     }
 
     /**
-     * Strategy Pattern - Valida el formato del email segun expresion regular configurable
+     * Strategy Pattern - Valida el formato del email segun la regla configurable precompilada
      */
     public void validateEmail(String email) {
-        if (email == null || email.trim().isEmpty()) {
-            throw new ValidationException("El correo es obligatorio");
-        }
-        
-        Pattern pattern = Pattern.compile(emailRegexp);
-        if (!pattern.matcher(email).matches()) {
-            throw new ValidationException("El formato del correo es invalido");
-        }
+        registrationPolicy.validateEmail(email);
     }
     
     /**
-     * Strategy Pattern - Valida el formato de la contraseña segun expresion regular configurable
+     * Strategy Pattern - Valida el formato de la contraseña segun la regla configurable precompilada
      */
     public void validatePassword(String password) {
-        if (password == null || password.trim().isEmpty()) {
-            throw new ValidationException("La contraseña es obligatoria");
-        }
-        
-        Pattern pattern = Pattern.compile(passwordRegexp);
-        if (!pattern.matcher(password).matches()) {
-            throw new ValidationException("El formato de la contraseña es invalido");
-        }
+        registrationPolicy.validatePassword(password);
     }
     
     /**
@@ -76,35 +89,173 @@ public class UserService {
      * Registra un nuevo usuario en el sistema
      * Aplica todas las validaciones de negocio
      */
-    @Transactional
     public User registerUser(User user, String rawPassword) {
-        log.info("Iniciando registro de usuario con email: {}", user.getEmail());
+        return registerUser(user, rawPassword, null);
+    }
+    
+    /**
+     * Registra un nuevo usuario emitiendo su token antes de persistir,
+     * de modo que el registro completo se resuelva con un unico INSERT.
+     * Los registros concurrentes del mismo email se serializan: el segundo espera al primero
+     * sin calcular el hash (ver {@link InFlightRegistrations}).
+     * No abre una transaccion propia: la espera por el email y el hash ocurren sin conexion
+     * tomada del pool, y solo el save (transaccional en el repositorio) la usa.
+     * 
+     * @param tokenIssuer Funcion que genera el token para el usuario ya identificado (puede ser null)
+     */
+    public User registerUser(User user, String rawPassword, Function<User, String> tokenIssuer) {
+        log.debug("Iniciando registro de usuario");
         
-        // Validaciones de negocio
+        // Validaciones de formato
         validateEmail(user.getEmail());
         validatePassword(rawPassword);
-        validateEmailNotDuplicated(user.getEmail());
-        
-        // Encriptar contraseña
-        String encodedPassword = passwordEncoder.encode(rawPassword);
-        user.setPassword(encodedPassword);
         
-        // Activar usuario por defecto
-        user.activate();
-        
-        // Persistir usuario
-        User savedUser = userRepository.save(user);
+        // Reservar el email frente a registros concurrentes antes del trabajo costoso
+        InFlightRegistrations.Registration registration = inFlightRegistrations.acquire(user.getEmail());
+        boolean registered = false;
+        try {
+            validateEmailNotDuplicated(user.getEmail());
+            
+            // Asignar ID, encriptar contraseña y activar usuario
+            prepareForPersistence(user, rawPassword);
+            
+            // Emitir token antes del INSERT para evitar un UPDATE posterior
+            if (tokenIssuer != null) {
+                user.updateToken(tokenIssuer.apply(user));
+            }
+            
+            // Persistir usuario
+            User savedUser = userRepository.save(user);
+            registered = true;
+            
+            log.debug("Usuario registrado exitosamente con ID: {}", savedUser.getId());
+            return savedUser;
+        } finally {
+            releaseAfterCompletion(registration, registered);
+        }
+    }
+    
+    /**
+     * Libera la reserva del email al terminar la transaccion, de modo que los registros
+     * en espera vean el resultado confirmado (commit o rollback)
+     */
+    private void releaseAfterCompletion(InFlightRegistrations.Registration registration, boolean registered) {
+        if (!registered || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            inFlightRegistrations.release(registration, registered);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                inFlightRegistrations.release(registration, status == STATUS_COMMITTED);
+            }
+        });
+    }
+    
+    /**
+     * Verifica las credenciales y registra el inicio de sesion del usuario.
+     * El last_login se actualiza en el usuario retornado y su escritura se difiere (write-behind).
+     * Un email inexistente se verifica igualmente contra un hash de referencia, para que el
+     * tiempo de respuesta no revele que correos estan registrados.
+     */
+    public User authenticate(String email, String rawPassword) {
+        User user = userRepository.findByEmail(email).orElse(null);
+        String encodedPassword = user != null ? user.getPassword() : unknownUserHash();
+        boolean matches = passwordEncoder.matches(rawPassword, encodedPassword);
+        if (user == null || !matches || !Boolean.TRUE.equals(user.getIsactive())) {
+            throw new InvalidCredentialsException("Usuario o contraseña invalidos");
+        }
         
-        log.info("Usuario registrado exitosamente con ID: {}", savedUser.getId());
-        return savedUser;
+        user.updateLastLogin();
+        userRepository.recordLastLogin(user.getId(), user.getLastLogin());
+        return user;
+    }
+    
+    private String unknownUserHash() {
+        String hash = unknownUserHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(UUID.randomUUID().toString());
+            unknownUserHash = hash;
+        }
+        return hash;
+    }
+    
+    /**
+     * Asigna el ID, encripta la contraseña y activa el usuario por defecto,
+     * dejandolo listo para ser persistido
+     */
+    public void prepareForPersistence(User user, String rawPassword) {
+        registrationPolicy.prepareForPersistence(user, rawPassword);
+    }
+    
+    /**
+     * Prepara un bloque de usuarios calculando los hashes en paralelo. Como maximo
+     * {@code registration.batch.hashing-parallelism} hashes esperan a la vez al PasswordEncoder
+     * (por defecto uno por nucleo), de modo que el pool acotado de hashing trabaja con todos sus
+     * hilos sin que el lote llene su cola ni desplace a los registros individuales.
+     *
+     * @param users Usuarios del bloque
+     * @param rawPasswords Contraseña de cada usuario, en el mismo orden
+     */
+    public void prepareForPersistence(List<User> users, List<String> rawPasswords) {
+        int parallelism = hashingParallelism > 0 ? hashingParallelism : Runtime.getRuntime().availableProcessors();
+        Semaphore window = new Semaphore(parallelism);
+        List<Future<String>> hashes = new ArrayList<>(users.size());
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String rawPassword : rawPasswords) {
+                window.acquireUninterruptibly();
+                hashes.add(callers.submit(() -> {
+                    try {
+                        return passwordEncoder.encode(rawPassword);
+                    } finally {
+                        window.release();
+                    }
+                }));
+            }
+            for (int i = 0; i < users.size(); i++) {
+                User user = users.get(i);
+                user.assignId();
+                user.setPassword(hashes.get(i).get());
+                user.activate();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hashing de contraseñas interrumpido", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error calculando el hash de la contraseña", ex.getCause());
+        }
+    }
+    
+    /**
+     * Obtiene, en una sola consulta, los emails del conjunto que ya estan registrados
+     */
+    public Set<String> findRegisteredEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return userRepository.findExistingEmails(emails);
+    }
+    
+    /**
+     * Obtiene los emails del conjunto ya registrados consultando siempre la base de datos;
+     * se usa tras un conflicto de email al persistir, cuando otra instancia pudo registrarlo
+     */
+    public Set<String> confirmRegisteredEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return userRepository.confirmExistingEmails(emails);
     }
     
     /**
-     * Actualiza el token de un usuario
+     * Persiste un lote de usuarios ya validados y preparados en una sola transaccion,
+     * permitiendo que Hibernate agrupe los INSERT en lotes JDBC
      */
     @Transactional
-    public void updateUserToken(User user, String token) {
-        user.updateToken(token);
-        userRepository.save(user);
+    public List<User> saveUsers(List<User> users) {
+        return userRepository.saveAll(users);
     }
 }
@@ -0,0 +1,63 @@
+package com.example.userapi.domain.validation;
+
+/**
+ * Fast-path sin regex para la politica de contraseñas por defecto.
+ * Cuenta las clases de caracteres en una sola pasada, sin el backtracking
+ * de los lookahead {@code (?=.*\d.*\d)} de la expresion equivalente.
+ */
+public class PasswordPolicyRule implements ValidationRule {
+    
+    /**
+     * Expresion regular equivalente a la politica por defecto
+     */
+    public static final String DEFAULT_REGEXP = "^(?=.*[A-Z])(?=.*[a-z])(?=.*\\d.*\\d)[A-Za-z\\d]{8,}$";
+    
+    private final int minLength;
+    private final int minUppercase;
+    private final int minLowercase;
+    private final int minDigits;
+    
+    public PasswordPolicyRule(int minLength, int minUppercase, int minLowercase, int minDigits) {
+        this.minLength = minLength;
+        this.minUppercase = minUppercase;
+        this.minLowercase = minLowercase;
+        this.minDigits = minDigits;
+    }
+    
+    /**
+     * Politica equivalente a {@link #DEFAULT_REGEXP}: al menos 8 caracteres alfanumericos ASCII,
+     * una mayuscula, una minuscula y dos digitos
+     */
+    public static PasswordPolicyRule defaultPolicy() {
+        return new PasswordPolicyRule(8, 1, 1, 2);
+    }
+    
+    @Override
+    public String strategy() {
+        return "fast-path";
+    }
+    
+    @Override
+    public boolean matches(CharSequence value) {
+        int length = value.length();
+        if (length < minLength) {
+            return false;
+        }
+        int uppercase = 0;
+        int lowercase = 0;
+        int digits = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                uppercase++;
+            } else if (c >= 'a' && c <= 'z') {
+                lowercase++;
+            } else if (c >= '0' && c <= '9') {
+                digits++;
+            } else {
+                return false;
+            }
+        }
+        return uppercase >= minUppercase && lowercase >= minLowercase && digits >= minDigits;
+    }
+}
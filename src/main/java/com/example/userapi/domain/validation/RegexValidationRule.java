@@ -0,0 +1,26 @@
+package com.example.userapi.domain.validation;
+
+import java.util.regex.Pattern;
+
+/**
+ * Regla basada en una expresion regular compilada una unica vez.
+ * {@link Pattern} es inmutable y seguro para uso concurrente.
+ */
+public class RegexValidationRule implements ValidationRule {
+    
+    private final Pattern pattern;
+    
+    public RegexValidationRule(String regexp) {
+        this.pattern = Pattern.compile(regexp);
+    }
+    
+    @Override
+    public String strategy() {
+        return "regex";
+    }
+    
+    @Override
+    public boolean matches(CharSequence value) {
+        return pattern.matcher(value).matches();
+    }
+}
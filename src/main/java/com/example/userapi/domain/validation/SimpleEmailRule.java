@@ -0,0 +1,42 @@
+package com.example.userapi.domain.validation;
+
+/**
+ * Fast-path sin regex para el formato de correo por defecto
+ * ({@code usuario@dominio.tld}, solo letras minusculas), evaluado en una sola pasada.
+ */
+public class SimpleEmailRule implements ValidationRule {
+    
+    /**
+     * Expresion regular equivalente a esta regla
+     */
+    public static final String DEFAULT_REGEXP = "^[a-z]+@[a-z]+\\.[a-z]{2,}$";
+    
+    @Override
+    public String strategy() {
+        return "fast-path";
+    }
+    
+    @Override
+    public boolean matches(CharSequence value) {
+        int length = value.length();
+        int at = -1;
+        int dot = -1;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                if (at != -1) {
+                    return false;
+                }
+                at = i;
+            } else if (c == '.') {
+                if (at == -1 || dot != -1) {
+                    return false;
+                }
+                dot = i;
+            } else if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return at > 0 && dot > at + 1 && length - dot - 1 >= 2;
+    }
+}
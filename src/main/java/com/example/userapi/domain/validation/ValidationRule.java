@@ -0,0 +1,20 @@
+package com.example.userapi.domain.validation;
+
+/**
+ * Strategy Pattern - Regla de validacion precompilada.
+ * Las implementaciones deben ser inmutables y seguras para uso concurrente.
+ */
+public interface ValidationRule {
+    
+    /**
+     * Nombre de la estrategia usada para evaluar la regla (regex, fast-path, etc.)
+     */
+    String strategy();
+    
+    /**
+     * Evalua la regla sobre el valor dado
+     * @param value Valor a validar, nunca null
+     * @return true si el valor cumple la regla
+     */
+    boolean matches(CharSequence value);
+}
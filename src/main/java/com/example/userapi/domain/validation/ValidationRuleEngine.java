@@ -0,0 +1,188 @@
+package com.example.userapi.domain.validation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Motor de reglas de validacion para email y contraseña.
+ * Compila las reglas una unica vez y las publica de forma atomica, de modo que
+ * pueden recargarse en caliente (desde un archivo de propiedades externo o
+ * programaticamente) sin reiniciar la aplicacion. Cuando la expresion configurada
+ * coincide con la politica por defecto se usa un fast-path sin regex.
+ */
+@Component
+@Slf4j
+public class ValidationRuleEngine {
+
+    static final String EMAIL_PROPERTY = "validation.email.regexp";
+    static final String PASSWORD_PROPERTY = "validation.password.regexp";
+
+    private final boolean fastPathEnabled;
+    private final Path rulesFile;
+    private final RuleStatistics emailStatistics = new RuleStatistics();
+    private final RuleStatistics passwordStatistics = new RuleStatistics();
+    // ReentrantLock en lugar de synchronized: la recarga lee un archivo y no debe fijar virtual threads
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile CompiledRules rules;
+    private volatile long rulesFileLastModified = -1L;
+
+    @Autowired
+    public ValidationRuleEngine(
+            @Value("${" + EMAIL_PROPERTY + "}") String emailRegexp,
+            @Value("${" + PASSWORD_PROPERTY + "}") String passwordRegexp,
+            @Value("${validation.rules-file:}") String rulesFile,
+            @Value("${validation.fast-path.enabled:true}") boolean fastPathEnabled) {
+        this.fastPathEnabled = fastPathEnabled;
+        this.rulesFile = rulesFile == null || rulesFile.isBlank() ? null : Path.of(rulesFile);
+        this.rules = compile(emailRegexp, passwordRegexp);
+        reloadIfChanged();
+    }
+
+    public ValidationRuleEngine(String emailRegexp, String passwordRegexp) {
+        this(emailRegexp, passwordRegexp, null, true);
+    }
+
+    /**
+     * Evalua la regla de formato de email
+     */
+    public boolean isValidEmail(String email) {
+        return evaluate(rules.email(), email, emailStatistics);
+    }
+
+    /**
+     * Evalua la regla de formato de contraseña
+     */
+    public boolean isValidPassword(String password) {
+        return evaluate(rules.password(), password, passwordStatistics);
+    }
+
+    /**
+     * Recompila y publica nuevas reglas. Si alguna expresion es invalida
+     * se conservan las reglas anteriores.
+     *
+     * @throws PatternSyntaxException si alguna expresion regular es invalida
+     */
+    public void reload(String emailRegexp, String passwordRegexp) {
+        reloadLock.lock();
+        try {
+            CompiledRules compiled = compile(emailRegexp, passwordRegexp);
+            this.rules = compiled;
+            log.info("Reglas de validacion recargadas (email: {}, password: {})",
+                    compiled.email().strategy(), compiled.password().strategy());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Recarga las reglas desde el archivo externo ({@code validation.rules-file})
+     * si fue modificado desde la ultima lectura
+     */
+    @Scheduled(fixedDelayString = "${validation.reload-interval-ms:10000}")
+    public void reloadIfChanged() {
+        if (rulesFile == null || !Files.isRegularFile(rulesFile)) {
+            return;
+        }
+        reloadLock.lock();
+        try {
+            long lastModified = Files.getLastModifiedTime(rulesFile).toMillis();
+            if (lastModified == rulesFileLastModified) {
+                return;
+            }
+            Properties properties = new Properties();
+            try (InputStream input = Files.newInputStream(rulesFile)) {
+                properties.load(input);
+            }
+            CompiledRules current = rules;
+            reload(properties.getProperty(EMAIL_PROPERTY, current.emailRegexp()),
+                    properties.getProperty(PASSWORD_PROPERTY, current.passwordRegexp()));
+            rulesFileLastModified = lastModified;
+        } catch (IOException | PatternSyntaxException ex) {
+            log.error("No se pudieron recargar las reglas de validacion desde {}: {}", rulesFile, ex.getMessage());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Tiempos de evaluacion acumulados por regla
+     */
+    public Map<String, RuleTiming> getStatistics() {
+        CompiledRules current = rules;
+        Map<String, RuleTiming> statistics = new LinkedHashMap<>();
+        statistics.put("email", emailStatistics.snapshot("email", current.email().strategy()));
+        statistics.put("password", passwordStatistics.snapshot("password", current.password().strategy()));
+        return statistics;
+    }
+
+    private boolean evaluate(ValidationRule rule, String value, RuleStatistics statistics) {
+        long start = System.nanoTime();
+        boolean valid = rule.matches(value);
+        statistics.record(System.nanoTime() - start, valid);
+        return valid;
+    }
+
+    private CompiledRules compile(String emailRegexp, String passwordRegexp) {
+        ValidationRule email = fastPathEnabled && SimpleEmailRule.DEFAULT_REGEXP.equals(emailRegexp)
+                ? new SimpleEmailRule()
+                : new RegexValidationRule(emailRegexp);
+        ValidationRule password = fastPathEnabled && PasswordPolicyRule.DEFAULT_REGEXP.equals(passwordRegexp)
+                ? PasswordPolicyRule.defaultPolicy()
+                : new RegexValidationRule(passwordRegexp);
+        return new CompiledRules(emailRegexp, passwordRegexp, email, password);
+    }
+
+    /**
+     * Conjunto inmutable de reglas publicado atomicamente
+     */
+    private record CompiledRules(String emailRegexp, String passwordRegexp,
+                                 ValidationRule email, ValidationRule password) {
+    }
+
+    /**
+     * Foto de las metricas de una regla
+     */
+    public record RuleTiming(String rule, String strategy, long evaluations, long rejections, long totalNanos) {
+
+        public double averageNanos() {
+            return evaluations == 0 ? 0 : (double) totalNanos / evaluations;
+        }
+    }
+
+    /**
+     * Contadores acumulados de una regla, sin contencion entre hilos
+     */
+    private static final class RuleStatistics {
+
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder rejections = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        void record(long nanos, boolean valid) {
+            evaluations.increment();
+            totalNanos.add(nanos);
+            if (!valid) {
+                rejections.increment();
+            }
+        }
+
+        RuleTiming snapshot(String rule, String strategy) {
+            return new RuleTiming(rule, strategy, evaluations.sum(), rejections.sum(), totalNanos.sum());
+        }
+    }
+}
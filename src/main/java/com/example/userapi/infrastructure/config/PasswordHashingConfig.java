@@ -0,0 +1,135 @@
+package com.example.userapi.infrastructure.config;
+
+import com.example.userapi.infrastructure.security.BoundedPasswordEncoder;
+import com.example.userapi.infrastructure.security.PasswordWorkFactorCalibrator;
+import com.example.userapi.infrastructure.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * Configuracion del subsistema de hashing de contraseñas.
+ * Strategy Pattern - el algoritmo se elige por configuracion mediante un
+ * DelegatingPasswordEncoder (BCrypt, Argon2, PBKDF2), el costo se calibra en el arranque
+ * (el presupuesto de latencia solo lo reduce, salvo allow-increase) y el hashing se ejecuta
+ * en un pool dedicado y acotado.
+ */
+@Configuration
+@Slf4j
+public class PasswordHashingConfig {
+    
+    private static final int ARGON2_MEMORY_KB = 1 << 14;
+    
+    @Value("${security.password.encoder:bcrypt}")
+    private String encodingId;
+    
+    @Value("${security.password.calibration.enabled:true}")
+    private boolean calibrationEnabled;
+    
+    @Value("${security.password.target-latency-ms:250}")
+    private long targetLatencyMs;
+    
+    /**
+     * Permite que la calibracion suba el costo por encima del configurado (hasta max-strength/max-iterations)
+     */
+    @Value("${security.password.calibration.allow-increase:false}")
+    private boolean calibrationAllowIncrease;
+    
+    @Value("${security.password.bcrypt.strength:10}")
+    private int bcryptStrength;
+    
+    @Value("${security.password.bcrypt.min-strength:10}")
+    private int bcryptMinStrength;
+    
+    @Value("${security.password.bcrypt.max-strength:14}")
+    private int bcryptMaxStrength;
+    
+    @Value("${security.password.argon2.iterations:2}")
+    private int argon2Iterations;
+    
+    @Value("${security.password.argon2.min-iterations:2}")
+    private int argon2MinIterations;
+    
+    @Value("${security.password.argon2.max-iterations:10}")
+    private int argon2MaxIterations;
+    
+    @Value("${security.password.pbkdf2.iterations:310000}")
+    private int pbkdf2Iterations;
+    
+    @Value("${security.password.hashing.threads:0}")
+    private int hashingThreads;
+    
+    @Value("${security.password.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+    
+    @Value("${security.password.hashing.timeout-ms:5000}")
+    private long hashingTimeoutMs;
+    
+    /**
+     * Ejecuta el hashing en el pool acotado propio. El perfil reactivo lo desactiva porque
+     * ya lo invoca desde un scheduler acotado y un segundo pool solo agregaria un salto de hilo.
+     */
+    @Value("${security.password.hashing.bounded:true}")
+    private boolean boundedHashing = true;
+    
+    /**
+     * Bean para encriptar contraseñas. Los hashes nuevos llevan el prefijo del algoritmo
+     * ({bcrypt}, {argon2}, {pbkdf2}); los hashes BCrypt sin prefijo se siguen verificando.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int strength = bcryptStrength;
+        int iterations = argon2Iterations;
+        if (calibrationEnabled && "bcrypt".equals(encodingId)) {
+            strength = PasswordWorkFactorCalibrator.calibrateBcryptStrength(targetLatencyMs,
+                    bcryptMinStrength, bcryptStrength, bcryptMaxStrength, calibrationAllowIncrease);
+        } else if (calibrationEnabled && "argon2".equals(encodingId)) {
+            iterations = PasswordWorkFactorCalibrator.calibrateArgon2Iterations(targetLatencyMs, ARGON2_MEMORY_KB,
+                    argon2MinIterations, argon2Iterations, argon2MaxIterations, calibrationAllowIncrease);
+        }
+        
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "argon2", new Argon2PasswordEncoder(16, 32, 1, ARGON2_MEMORY_KB, iterations),
+                // PBKDF2 no guarda las iteraciones en el hash: deben ser fijas, nunca calibradas
+                "pbkdf2", new Pbkdf2PasswordEncoder("", 16, pbkdf2Iterations,
+                        Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+        if (!encoders.containsKey(encodingId)) {
+            throw new IllegalStateException("Algoritmo de hashing no soportado: " + encodingId);
+        }
+        
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encodingId, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        PasswordEncoder timed = new TimedPasswordEncoder(delegating, meterRegistry, encodingId);
+        if (!boundedHashing) {
+            log.info("Hashing de contraseñas: {} (bcrypt strength={}, argon2 iterations={}), en el hilo llamador",
+                    encodingId, strength, iterations);
+            return timed;
+        }
+        
+        int threads = hashingThreads > 0
+                ? hashingThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        log.info("Hashing de contraseñas: {} (bcrypt strength={}, argon2 iterations={}), {} hilos, cola de {}",
+                encodingId, strength, iterations, threads, hashingQueueCapacity);
+        BoundedPasswordEncoder bounded = new BoundedPasswordEncoder(timed, threads, hashingQueueCapacity, hashingTimeoutMs);
+        Gauge.builder("security.password.hash.queue", bounded, BoundedPasswordEncoder::getQueueDepth)
+                .description("Hashes de contraseña esperando en la cola del pool acotado")
+                .register(meterRegistry);
+        Gauge.builder("security.password.hash.active", bounded, BoundedPasswordEncoder::getActiveCount)
+                .description("Hilos del pool de hashing calculando un hash")
+                .register(meterRegistry);
+        return bounded;
+    }
+}
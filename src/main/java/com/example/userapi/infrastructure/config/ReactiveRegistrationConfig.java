@@ -0,0 +1,75 @@
+package com.example.userapi.infrastructure.config;
+
+import com.example.userapi.domain.service.InFlightRegistrations;
+import com.example.userapi.domain.service.UserRegistrationPolicy;
+import com.example.userapi.domain.validation.ValidationRuleEngine;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Configuracion del perfil {@code reactive} (WebFlux + R2DBC).
+ * El perfil no levanta JPA: el esquema lo crea Flyway y los componentes que dependen de JPA
+ * (UserService, los casos de uso servlet, la revocacion de tokens) no se registran.
+ * El flujo reactivo usa el administrador de transacciones R2DBC a traves de su propio TransactionalOperator.
+ */
+@Configuration
+@Profile("reactive")
+@Slf4j
+public class ReactiveRegistrationConfig {
+    
+    @Value("${security.password.hashing.threads:0}")
+    private int hashingThreads;
+    
+    @Value("${security.password.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+    
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+    
+    @Bean
+    public TransactionalOperator registrationTransactionalOperator(ConnectionFactory connectionFactory) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+    
+    /**
+     * Reglas de formato y preparacion del alta, las mismas que aplica UserService en la aplicacion servlet
+     */
+    @Bean
+    public UserRegistrationPolicy userRegistrationPolicy(ValidationRuleEngine validationRuleEngine,
+                                                         PasswordEncoder passwordEncoder) {
+        return new UserRegistrationPolicy(validationRuleEngine, passwordEncoder);
+    }
+    
+    /**
+     * Registros en curso por email, con la misma espera que el registro servlet
+     */
+    @Bean
+    public InFlightRegistrations inFlightRegistrations(@Value("${registration.in-flight.wait-ms:5000}") long waitMillis) {
+        return new InFlightRegistrations(waitMillis);
+    }
+    
+    /**
+     * Scheduler acotado para el trabajo de CPU del registro (hash de contraseña y firma del JWT),
+     * para no bloquear los event loops. Al llenarse la cola rechaza el trabajo (503).
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler registrationScheduler() {
+        int threads = hashingThreads > 0
+                ? hashingThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        log.info("Scheduler de registro reactivo: {} hilos, cola de {}", threads, hashingQueueCapacity);
+        return Schedulers.newBoundedElastic(threads, hashingQueueCapacity, "registration-cpu");
+    }
+}
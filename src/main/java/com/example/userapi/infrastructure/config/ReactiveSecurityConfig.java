@@ -0,0 +1,75 @@
+package com.example.userapi.infrastructure.config;
+
+import com.example.userapi.infrastructure.security.ClientCredentials;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Configuracion de Spring Security para el perfil reactivo (WebFlux).
+ * Aplica las mismas reglas que {@link SecurityConfig} para el registro: el endpoint es publico,
+ * sin CSRF ni sesiones, y el resto responde 401. Las metricas de actuator requieren las credenciales
+ * HTTP Basic del cliente {@code metrics} ({@link ClientCredentials}).
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+    
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, ClientCredentials clientCredentials) {
+        return http
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+            .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+            .authorizeExchange(exchanges -> exchanges
+                .pathMatchers("/api/users/register", "/actuator/health", "/.well-known/jwks.json").permitAll()
+                .pathMatchers("/actuator/**").hasAnyRole(ClientCredentials.ROLE_METRICS, JwtTokenProvider.ROLE_ADMIN)
+                .anyExchange().authenticated()
+            )
+            .addFilterAt(clientCredentialsFilter(clientCredentials), SecurityWebFiltersOrder.AUTHENTICATION)
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED))
+            )
+            .build();
+    }
+    
+    /**
+     * Clientes de servicio autenticados con HTTP Basic; sin secreto configurado quedan deshabilitados
+     */
+    @Bean
+    public ClientCredentials clientCredentials(@Value("${security.clients.gateway.secret:}") String gatewaySecret,
+                                               @Value("${security.clients.metrics.secret:}") String metricsSecret) {
+        return new ClientCredentials(Map.of("gateway", gatewaySecret, "metrics", metricsSecret));
+    }
+    
+    /**
+     * Equivalente reactivo de ClientCredentialsAuthenticationFilter: la cabecera ya se verifica
+     * al convertirla, por lo que el gestor solo acepta la autenticacion resultante
+     */
+    private static AuthenticationWebFilter clientCredentialsFilter(ClientCredentials clientCredentials) {
+        AuthenticationWebFilter filter = new AuthenticationWebFilter(Mono::just);
+        filter.setServerAuthenticationConverter(exchange -> Mono.justOrEmpty(
+                clientCredentials.authenticate(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION)))
+                .map(role -> UsernamePasswordAuthenticationToken.authenticated(role.toLowerCase(Locale.ROOT), null,
+                        List.of(new SimpleGrantedAuthority("ROLE_" + role)))));
+        return filter;
+    }
+}
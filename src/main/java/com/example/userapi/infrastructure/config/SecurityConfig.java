@@ -1,29 +1,48 @@
 package com.example.userapi.infrastructure.config;
 
+import com.example.userapi.infrastructure.security.ClientCredentials;
+import com.example.userapi.infrastructure.security.ClientCredentialsAuthenticationFilter;
+import com.example.userapi.infrastructure.security.JwtAuthenticationFilter;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.util.Map;
 
 /**
  * Configuracion de Spring Security.
  * Define las reglas de seguridad y los beans necesarios.
+ * El PasswordEncoder se define en {@link PasswordHashingConfig}.
+ * Las consultas sobre todos los usuarios y el registro por lotes requieren el rol ADMIN,
+ * que el registro publico nunca otorga.
+ * Los clientes de servicio (gateway, scraper de metricas) se autentican con HTTP Basic mediante
+ * {@link ClientCredentials}; las metricas de actuator requieren el rol METRICS o ADMIN.
  */
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfig {
     
     /**
-     * Configura la cadena de filtros de seguridad
+     * Configura la cadena de filtros de seguridad.
+     * La autenticacion es stateless: cada peticion se autentica con el Bearer token
+     * mediante {@link JwtAuthenticationFilter}, sin sesiones ni consultas a la base de datos.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenProvider jwtTokenProvider,
+                                                   ClientCredentials clientCredentials) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .headers(headers -> headers
@@ -32,27 +51,41 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(
                     "/api/users/register",
+                    "/api/users/login",
                     "/h2-console/**",
                     "/swagger-ui/**",
                     "/swagger-ui.html",
                     "/v3/api-docs/**",
-                    "/api-docs/**"
+                    "/api-docs/**",
+                    "/actuator/health",
+                    "/.well-known/jwks.json"
                 ).permitAll()
+                .requestMatchers("/actuator/**").hasAnyRole(ClientCredentials.ROLE_METRICS, JwtTokenProvider.ROLE_ADMIN)
+                .requestMatchers("/api/tokens/introspect").hasRole(ClientCredentials.ROLE_GATEWAY)
+                .requestMatchers(HttpMethod.GET, "/api/users", "/api/users/by-phone", "/api/users/export").hasRole(JwtTokenProvider.ROLE_ADMIN)
+                .requestMatchers(HttpMethod.POST, "/api/users/register/batch").hasRole(JwtTokenProvider.ROLE_ADMIN)
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
-            );
+            )
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+            )
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+                UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(new ClientCredentialsAuthenticationFilter(clientCredentials),
+                UsernamePasswordAuthenticationFilter.class);
         
         return http.build();
     }
     
     /**
-     * Bean para encriptar contraseñas usando BCrypt
-     * Strategy Pattern - permite cambiar el algoritmo de encriptacion facilmente
+     * Clientes de servicio autenticados con HTTP Basic; sin secreto configurado quedan deshabilitados
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public ClientCredentials clientCredentials(@Value("${security.clients.gateway.secret:}") String gatewaySecret,
+                                               @Value("${security.clients.metrics.secret:}") String metricsSecret) {
+        return new ClientCredentials(Map.of("gateway", gatewaySecret, "metrics", metricsSecret));
     }
 }
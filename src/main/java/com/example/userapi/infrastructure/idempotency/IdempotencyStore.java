@@ -0,0 +1,124 @@
+package com.example.userapi.infrastructure.idempotency;
+
+import com.example.userapi.domain.exception.IdempotencyConflictException;
+import com.example.userapi.domain.exception.ServiceOverloadedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Almacen en memoria de respuestas por Idempotency-Key, acotado por tamaño y con TTL.
+ * Cada entrada guarda la huella de la peticion y la respuesta serializada. La primera peticion
+ * con una llave ejecuta la operacion; las repeticiones concurrentes esperan ese mismo resultado,
+ * hasta un limite tras el cual se rechazan con 503, y las posteriores se responden desde el almacen. Los errores no se guardan: la llave queda
+ * libre para reintentar.
+ * Las entradas en curso pesan cero, por lo que el limite de tamaño no las desaloja: solo cuentan
+ * (y pueden desalojarse) una vez completadas. Un desalojo en curso repetiria la operacion.
+ */
+@Component
+public class IdempotencyStore implements MeterBinder {
+    
+    private final Cache<String, Entry> entries;
+    private final long waitMillis;
+    
+    public IdempotencyStore(@Value("${users.idempotency.max-keys:50000}") long maxKeys,
+                            @Value("${users.idempotency.ttl-seconds:86400}") long ttlSeconds,
+                            @Value("${users.idempotency.wait-ms:5000}") long waitMillis) {
+        this.waitMillis = waitMillis;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxKeys)
+                .weigher((String key, Entry entry) -> entry.body().isDone() ? 1 : 0)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+    
+    /**
+     * Ejecuta la operacion una sola vez por llave
+     * 
+     * @param key Idempotency-Key enviada por el cliente
+     * @param fingerprint Huella de la peticion; una llave reutilizada con otra huella es rechazada
+     * @param action Operacion que produce la respuesta serializada
+     * @return Respuesta serializada e indicador de si fue reproducida desde el almacen
+     */
+    public Outcome execute(String key, byte[] fingerprint, Supplier<byte[]> action) {
+        Entry created = new Entry(fingerprint, new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, created);
+        if (existing != null) {
+            if (!MessageDigest.isEqual(existing.fingerprint(), fingerprint)) {
+                throw new IdempotencyConflictException(
+                        "La Idempotency-Key ya fue usada con una peticion distinta");
+            }
+            return new Outcome(await(existing.body()), true);
+        }
+        
+        try {
+            byte[] body = action.get();
+            created.body().complete(body);
+            // Reemplazar la entrada por si misma vuelve a pesarla: desde ahora cuenta para max-keys
+            entries.asMap().replace(key, created, created);
+            return new Outcome(body, false);
+        } catch (RuntimeException | Error ex) {
+            entries.asMap().remove(key, created);
+            created.body().completeExceptionally(ex);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Ejecuta el mantenimiento pendiente del cache (desalojos) en el hilo actual
+     */
+    void cleanUp() {
+        entries.cleanUp();
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, entries, "users.idempotency");
+    }
+    
+    /**
+     * Espera la ejecucion en curso, como maximo waitMillis, y propaga su mismo error
+     * 
+     * @throws ServiceOverloadedException si la ejecucion en curso no termina a tiempo
+     */
+    private byte[] await(CompletableFuture<byte[]> body) {
+        try {
+            return body.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw new ServiceOverloadedException("La peticion con esta Idempotency-Key sigue en curso, intente nuevamente");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("La peticion con esta Idempotency-Key sigue en curso, intente nuevamente");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+    
+    /**
+     * Resultado de una ejecucion idempotente
+     */
+    public record Outcome(byte[] body, boolean replayed) {
+    }
+    
+    private record Entry(byte[] fingerprint, CompletableFuture<byte[]> body) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.userapi.infrastructure.logging;
+
+/**
+ * Enmascara datos personales antes de escribirlos en los logs.
+ * El enmascarado es perezoso: solo se calcula si el evento llega a formatearse,
+ * por lo que los logs descartados por nivel o muestreo no pagan el costo.
+ */
+public final class LogMasking {
+
+    private LogMasking() {
+    }
+
+    /**
+     * Email enmascarado para usar como argumento de log: {@code juan@rodriguez.org} se escribe
+     * como {@code j***@rodriguez.org}
+     */
+    public static Object email(String email) {
+        return new MaskedEmail(email);
+    }
+
+    static String maskEmail(String email) {
+        if (email == null) {
+            return "null";
+        }
+        int at = email.indexOf('@');
+        if (at <= 0) {
+            return "***";
+        }
+        return email.charAt(0) + "***" + email.substring(at);
+    }
+
+    private record MaskedEmail(String email) {
+        @Override
+        public String toString() {
+            return maskEmail(email);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.userapi.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filtro de Logback que muestrea y limita por segundo los logs de los loggers configurados.
+ * Actua antes de construir el evento (sin formatear el mensaje) y solo sobre los niveles
+ * menores o iguales a {@code level}; WARN y ERROR siempre pasan con la configuracion por defecto.
+ * Se configura en logback-spring.xml:
+ * <pre>
+ * &lt;turboFilter class="...SamplingTurboFilter"&gt;
+ *     &lt;loggers&gt;com.example.A,com.example.B&lt;/loggers&gt;
+ *     &lt;sampleRate&gt;10&lt;/sampleRate&gt;
+ *     &lt;maxPerSecond&gt;100&lt;/maxPerSecond&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private String[] loggers = new String[0];
+    private Level level = Level.INFO;
+    private int sampleRate = 1;
+    private int maxPerSecond = 0;
+
+    private final AtomicLong seen = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong windowSecond = new AtomicLong();
+    private final AtomicInteger windowCount = new AtomicInteger();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format,
+                              Object[] params, Throwable t) {
+        // format es null en las consultas isXxxEnabled(): no son eventos y no se cuentan
+        if (!isStarted() || format == null || eventLevel == null
+                || eventLevel.toInt() > level.toInt()
+                || eventLevel.toInt() < logger.getEffectiveLevel().toInt()
+                || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (sampleRate > 1 && seen.getAndIncrement() % sampleRate != 0) {
+            dropped.incrementAndGet();
+            return FilterReply.DENY;
+        }
+        if (maxPerSecond > 0 && !acquire()) {
+            dropped.incrementAndGet();
+            return FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    /**
+     * Ventana fija de un segundo; el reinicio puede dejar pasar algunos eventos de mas
+     * cuando varios hilos cambian de ventana a la vez, lo que es aceptable para logs
+     */
+    private boolean acquire() {
+        long second = System.nanoTime() / 1_000_000_000L;
+        long current = windowSecond.get();
+        if (current != second && windowSecond.compareAndSet(current, second)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() <= maxPerSecond;
+    }
+
+    private boolean matches(String name) {
+        for (String prefix : loggers) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Eventos descartados por muestreo o por limite desde el arranque
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Loggers (o prefijos de paquete) afectados, separados por coma
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Nivel maximo afectado (por defecto INFO)
+     */
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    /**
+     * Deja pasar uno de cada N eventos (1 = todos)
+     */
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    /**
+     * Maximo de eventos por segundo tras el muestreo (0 = sin limite)
+     */
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = Math.max(0, maxPerSecond);
+    }
+}
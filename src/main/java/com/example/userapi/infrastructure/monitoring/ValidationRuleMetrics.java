@@ -0,0 +1,42 @@
+package com.example.userapi.infrastructure.monitoring;
+
+import com.example.userapi.domain.validation.ValidationRuleEngine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica como metricas los tiempos de evaluacion que {@link ValidationRuleEngine} ya acumula
+ * por regla, sin agregar trabajo a la validacion (los valores se leen al momento del scrape)
+ */
+@Component
+public class ValidationRuleMetrics implements MeterBinder {
+
+    private final ValidationRuleEngine validationRuleEngine;
+
+    public ValidationRuleMetrics(ValidationRuleEngine validationRuleEngine) {
+        this.validationRuleEngine = validationRuleEngine;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String rule : validationRuleEngine.getStatistics().keySet()) {
+            FunctionTimer.builder("validation.rule", validationRuleEngine,
+                            engine -> engine.getStatistics().get(rule).evaluations(),
+                            engine -> engine.getStatistics().get(rule).totalNanos(),
+                            TimeUnit.NANOSECONDS)
+                    .description("Evaluaciones de las reglas de formato (regex o fast-path)")
+                    .tag("rule", rule)
+                    .register(registry);
+            FunctionCounter.builder("validation.rule.rejections", validationRuleEngine,
+                            engine -> engine.getStatistics().get(rule).rejections())
+                    .description("Valores rechazados por la regla de formato")
+                    .tag("rule", rule)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.userapi.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Diagnostico de virtual threads fijados (pinned) a su carrier thread.
+ * Escucha el evento JFR {@code jdk.VirtualThreadPinned}, que el JDK emite cuando un virtual
+ * thread se bloquea dentro de un bloque {@code synchronized} o de codigo nativo (por ejemplo,
+ * en drivers JDBC o en Hibernate). Cada ubicacion nueva se registra una sola vez con su traza
+ * y todas se cuentan como metricas.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle, MeterBinder {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final Map<String, LongAdder> pinnedByLocation = new ConcurrentHashMap<>();
+
+    @Value("${virtual-threads.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    private volatile RecordingStream recordingStream;
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("Monitor de virtual threads fijados activo (umbral {} ms)", thresholdMs);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        if (stream != null) {
+            stream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    /**
+     * Cantidad de eventos por ubicacion (primer frame fuera del JDK)
+     */
+    public Map<String, Long> getPinnedLocations() {
+        return pinnedByLocation.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String location = frames.stream()
+                .filter(frame -> !isJdkFrame(frame))
+                .findFirst()
+                .map(VirtualThreadPinningMonitor::describe)
+                .orElse("desconocida");
+        LongAdder count = pinnedByLocation.computeIfAbsent(location, key -> new LongAdder());
+        count.increment();
+        if (count.sum() == 1) {
+            log.warn("Virtual thread fijado {} ms en {}:\n\t{}", event.getDuration().toMillis(), location,
+                    frames.stream()
+                            .limit(LOGGED_FRAMES)
+                            .map(VirtualThreadPinningMonitor::describe)
+                            .collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jvm.threads.virtual.pinned", pinnedEvents, LongAdder::sum)
+                .description("Eventos de virtual threads fijados por encima del umbral")
+                .register(registry);
+        FunctionCounter.builder("jvm.threads.virtual.pinned.time", pinnedNanos, nanos -> nanos.sum() / 1e9)
+                .baseUnit("seconds")
+                .description("Tiempo total que los virtual threads permanecieron fijados")
+                .register(registry);
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    private static boolean isJdkFrame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.userapi.infrastructure.persistence;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom concurrente sobre cadenas.
+ * Nunca produce falsos negativos: si {@link #mightContain(String)} retorna false,
+ * el valor no fue agregado. Las inserciones son lock-free (CAS por palabra de 64 bits).
+ */
+public final class BloomFilter {
+    
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final LongAdder insertions = new LongAdder();
+    
+    /**
+     * @param expectedInsertions Cantidad esperada de elementos
+     * @param falsePositiveRate Tasa de falsos positivos objetivo para esa cantidad
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long expected = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (optimalBits + 63) >>> 6);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = wordCount * 64L;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expected * Math.log(2)));
+    }
+    
+    /**
+     * Agrega un valor al filtro
+     */
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 1; i <= hashFunctions; i++) {
+            setBit(index(hash1 + i * hash2));
+        }
+        insertions.increment();
+    }
+    
+    /**
+     * @return false si el valor con certeza no fue agregado; true si podria haberlo sido
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = index(hash1 + i * hash2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Tasa de falsos positivos esperada segun la ocupacion actual de bits
+     */
+    public double expectedFalsePositiveRate() {
+        long bitsSet = 0;
+        for (int i = 0; i < words.length(); i++) {
+            bitsSet += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) bitsSet / bitSize, hashFunctions);
+    }
+    
+    /**
+     * Memoria ocupada por el arreglo de bits, en bytes
+     */
+    public long memoryBytes() {
+        return words.length() * 8L;
+    }
+    
+    /**
+     * Cantidad de valores agregados (incluyendo repetidos)
+     */
+    public long insertions() {
+        return insertions.sum();
+    }
+    
+    private long index(long combinedHash) {
+        return (combinedHash & Long.MAX_VALUE) % bitSize;
+    }
+    
+    private void setBit(long bit) {
+        int wordIndex = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        do {
+            current = words.get(wordIndex);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, current, current | mask));
+    }
+    
+    /**
+     * FNV-1a de 64 bits sobre los caracteres, con mezcla final para dispersar los bits
+     */
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+    
+    /**
+     * Finalizador de MurmurHash3 (fmix64)
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
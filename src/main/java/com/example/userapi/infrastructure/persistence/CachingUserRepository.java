@@ -0,0 +1,202 @@
+package com.example.userapi.infrastructure.persistence;
+
+import com.example.userapi.domain.model.User;
+import com.example.userapi.domain.model.UserSearchCriteria;
+import com.example.userapi.domain.model.UserSummary;
+import com.example.userapi.domain.model.UserSnapshot;
+import com.example.userapi.domain.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Decorator Pattern - Cache read-through sobre {@link UserRepositoryImpl}.
+ * Mantiene dos indices (por ID y por email) con eviccion por tamaño y TTL (W-TinyLFU de Caffeine).
+ * La cache guarda proyecciones inmutables ({@link UserSnapshot}), nunca la entidad administrada:
+ * cada lectura retorna un {@link User} nuevo y desacoplado. Los save invalidan las entradas
+ * del usuario de inmediato y nuevamente al confirmar la transaccion. Los inicios de sesion se
+ * aplican sobre la proyeccion cacheada, ya que su escritura en la base de datos se difiere.
+ */
+@Component
+@Profile("!reactive")
+@Primary
+public class CachingUserRepository implements UserRepository, MeterBinder {
+    
+    private final UserRepository delegate;
+    private final Cache<UUID, UserSnapshot> usersById;
+    private final Cache<String, UUID> idsByEmail;
+    
+    private volatile Timer duplicateCheckTimer;
+    
+    public CachingUserRepository(UserRepositoryImpl delegate,
+                                 @Value("${users.cache.max-size:10000}") long maxSize,
+                                 @Value("${users.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.delegate = delegate;
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.idsByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+    
+    @Override
+    public User save(User user) {
+        evict(user);
+        User savedUser = delegate.save(user);
+        evictAfterCommit(savedUser);
+        return savedUser;
+    }
+    
+    @Override
+    public List<User> saveAll(List<User> users) {
+        users.forEach(this::evict);
+        List<User> savedUsers = delegate.saveAll(users);
+        savedUsers.forEach(this::evictAfterCommit);
+        return savedUsers;
+    }
+    
+    @Override
+    public Optional<User> findByEmail(String email) {
+        UUID id = idsByEmail.getIfPresent(email);
+        if (id != null) {
+            UserSnapshot snapshot = usersById.getIfPresent(id);
+            if (snapshot != null && snapshot.email().equals(email)) {
+                return Optional.of(snapshot.toUser());
+            }
+        }
+        return delegate.findByEmail(email).map(this::cache);
+    }
+    
+    @Override
+    public Optional<User> findById(UUID id) {
+        UserSnapshot snapshot = usersById.getIfPresent(id);
+        if (snapshot != null) {
+            return Optional.of(snapshot.toUser());
+        }
+        return delegate.findById(id).map(this::cache);
+    }
+    
+    @Override
+    public boolean existsByEmail(String email) {
+        long start = System.nanoTime();
+        boolean exists = idsByEmail.getIfPresent(email) != null || delegate.existsByEmail(email);
+        Timer timer = duplicateCheckTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return exists;
+    }
+    
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+    
+    @Override
+    public Set<String> confirmExistingEmails(Collection<String> emails) {
+        return delegate.confirmExistingEmails(emails);
+    }
+    
+    @Override
+    public List<UserSummary> search(UserSearchCriteria criteria) {
+        return delegate.search(criteria);
+    }
+    
+    @Override
+    public List<UserSummary> findByPhone(String contrycode, String citycode, String number, int limit) {
+        return delegate.findByPhone(contrycode, citycode, number, limit);
+    }
+    
+    @Override
+    public long forEachUser(Consumer<UserSummary> consumer) {
+        return delegate.forEachUser(consumer);
+    }
+    
+    @Override
+    public void recordLastLogin(UUID id, LocalDateTime lastLogin) {
+        delegate.recordLastLogin(id, lastLogin);
+        usersById.asMap().computeIfPresent(id, (key, snapshot) -> snapshot.withLastLogin(lastLogin));
+    }
+    
+    /**
+     * Estadisticas de la cache por ID (hits, misses, evictions)
+     */
+    public CacheStats getStatistics() {
+        return usersById.stats();
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, usersById, "users.byId");
+        CaffeineCacheMetrics.monitor(registry, idsByEmail, "users.byEmail");
+        duplicateCheckTimer = Timer.builder("users.duplicate_check")
+                .description("Verificacion de email duplicado (cache, filtro de Bloom y base de datos)")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(registry);
+    }
+    
+    /**
+     * Guarda la proyeccion en ambos indices y retorna una copia desacoplada
+     */
+    private User cache(User user) {
+        UserSnapshot snapshot = UserSnapshot.of(user);
+        usersById.put(snapshot.id(), snapshot);
+        idsByEmail.put(snapshot.email(), snapshot.id());
+        return snapshot.toUser();
+    }
+    
+    private void evict(User user) {
+        if (user.getId() != null) {
+            UserSnapshot previous = usersById.getIfPresent(user.getId());
+            if (previous != null) {
+                idsByEmail.invalidate(previous.email());
+            }
+            usersById.invalidate(user.getId());
+        }
+        if (user.getEmail() != null) {
+            idsByEmail.invalidate(user.getEmail());
+        }
+    }
+    
+    /**
+     * Repite la invalidacion al confirmar la transaccion, para descartar lecturas
+     * concurrentes que hayan cacheado el estado anterior al commit
+     */
+    private void evictAfterCommit(User user) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(user);
+                }
+            });
+        }
+    }
+}
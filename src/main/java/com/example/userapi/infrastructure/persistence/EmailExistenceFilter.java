@@ -0,0 +1,192 @@
+package com.example.userapi.infrastructure.persistence;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Filtro de Bloom en memoria sobre los emails registrados, usado para evitar la
+ * consulta de duplicados cuando el email con certeza es nuevo.
+ * Se precalienta al arrancar recorriendo la columna {@code users.email} (a traves del
+ * {@link RegisteredEmailSource} del perfil activo), se actualiza
+ * en cada save y se reconstruye periodicamente. Un "tal vez" siempre se confirma contra
+ * la base de datos; la restriccion unica sobre {@code email} sigue siendo el arbitro final.
+ */
+@Component
+@Slf4j
+public class EmailExistenceFilter implements MeterBinder {
+
+    private final RegisteredEmailSource registeredEmails;
+
+    @Value("${users.email-filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${users.email-filter.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${users.email-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    /**
+     * Lock de reconstruccion. Se usa ReentrantLock en lugar de synchronized porque la
+     * reconstruccion hace I/O contra la base de datos y synchronized fija el virtual thread.
+     */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * Coordina los add con el inicio y el cambio de filtro de una reconstruccion: los add toman
+     * la lectura (concurrentes entre si) y el cambio la escritura, de modo que un add no puede
+     * leer el filtro anterior y encontrar la reconstruccion ya terminada, perdiendo el email.
+     */
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter rebuilding;
+
+    private final LongAdder definiteMisses = new LongAdder();
+    private final LongAdder maybePresent = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public EmailExistenceFilter(RegisteredEmailSource registeredEmails) {
+        this.registeredEmails = registeredEmails;
+    }
+
+    /**
+     * Precalienta el filtro una vez que el esquema esta disponible
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Reconstruye el filtro desde la base de datos, dimensionandolo segun la cantidad actual
+     * de usuarios. Los emails guardados durante la reconstruccion se agregan a ambos filtros,
+     * y ninguno se pierde al reemplazar el filtro (ver {@link #swapLock}).
+     */
+    @Scheduled(fixedDelayString = "${users.email-filter.rebuild-interval-ms:3600000}",
+            initialDelayString = "${users.email-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            rebuildFromDatabase();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildFromDatabase() {
+        long start = System.currentTimeMillis();
+        long userCount = registeredEmails.count();
+        BloomFilter next = new BloomFilter(Math.max(expectedInsertions, userCount * 2), falsePositiveRate);
+        swap(() -> rebuilding = next);
+        try {
+            registeredEmails.forEachEmail(email -> next.put(normalize(email)));
+            swap(() -> current = next);
+            log.info("Filtro de emails reconstruido: {} emails, {} bytes, fpp esperada {} ({} ms)",
+                    next.insertions(), next.memoryBytes(), next.expectedFalsePositiveRate(),
+                    System.currentTimeMillis() - start);
+        } catch (RuntimeException ex) {
+            log.error("No se pudo reconstruir el filtro de emails: {}", ex.getMessage());
+        } finally {
+            swap(() -> rebuilding = null);
+        }
+    }
+
+    private void swap(Runnable change) {
+        swapLock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Registra un email persistido
+     */
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        String normalized = normalize(email);
+        swapLock.readLock().lock();
+        try {
+            BloomFilter filter = current;
+            if (filter != null) {
+                filter.put(normalized);
+            }
+            BloomFilter next = rebuilding;
+            if (next != null) {
+                next.put(normalized);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return true solo si el email con certeza no esta registrado.
+     * Mientras el filtro no este precalentado siempre retorna false.
+     */
+    public boolean isDefinitelyAbsent(String email) {
+        BloomFilter filter = current;
+        if (filter == null || email == null) {
+            return false;
+        }
+        if (filter.mightContain(normalize(email))) {
+            maybePresent.increment();
+            return false;
+        }
+        definiteMisses.increment();
+        return true;
+    }
+
+    /**
+     * Registra que un "tal vez" del filtro resulto no existir en la base de datos
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.email_filter.expected_fpp", this,
+                        filter -> filter.current == null ? Double.NaN : filter.current.expectedFalsePositiveRate())
+                .description("Tasa de falsos positivos esperada del filtro de emails")
+                .register(registry);
+        Gauge.builder("users.email_filter.memory", this,
+                        filter -> filter.current == null ? 0 : filter.current.memoryBytes())
+                .baseUnit("bytes")
+                .description("Memoria ocupada por el filtro de emails")
+                .register(registry);
+        FunctionCounter.builder("users.email_filter.lookups", definiteMisses, LongAdder::sum)
+                .tag("result", "definite_miss")
+                .register(registry);
+        FunctionCounter.builder("users.email_filter.lookups", maybePresent, LongAdder::sum)
+                .tag("result", "maybe_present")
+                .register(registry);
+        FunctionCounter.builder("users.email_filter.false_positives", falsePositives, LongAdder::sum)
+                .description("Consultas a la base de datos que el filtro no pudo evitar")
+                .register(registry);
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.userapi.infrastructure.persistence;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Origen JPA de los emails registrados: recorre la columna {@code users.email} con un
+ * stream de solo lectura dentro de una transaccion.
+ */
+@Component
+@Profile("!reactive")
+public class JpaRegisteredEmailSource implements RegisteredEmailSource {
+    
+    private final JpaUserRepository jpaUserRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    
+    public JpaRegisteredEmailSource(JpaUserRepository jpaUserRepository, PlatformTransactionManager transactionManager) {
+        this.jpaUserRepository = jpaUserRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+    
+    @Override
+    public long count() {
+        return jpaUserRepository.count();
+    }
+    
+    @Override
+    public void forEachEmail(Consumer<String> action) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<String> emails = jpaUserRepository.streamAllEmails()) {
+                emails.forEach(action);
+            }
+        });
+    }
+}
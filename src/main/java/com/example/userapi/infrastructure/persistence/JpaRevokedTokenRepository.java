@@ -0,0 +1,38 @@
+package com.example.userapi.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repositorio de tokens revocados (jti y expiracion)
+ */
+@Repository
+public interface JpaRevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Revocaciones aun vigentes, para reconstruir el conjunto en memoria
+     */
+    @Query("select t from RevokedToken t where t.expiresAt > :now")
+    List<RevokedToken> findActive(@Param("now") Instant now);
+
+    /**
+     * Revocaciones vigentes registradas despues de la marca de agua dada, para la sincronizacion incremental
+     */
+    @Query("select t from RevokedToken t where t.revokedAt > :since and t.expiresAt > :now")
+    List<RevokedToken> findRevokedSince(@Param("since") Instant since, @Param("now") Instant now);
+
+    /**
+     * Elimina en una sola sentencia las revocaciones de tokens ya expirados
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,11 +1,20 @@
 package com.example.userapi.infrastructure.persistence;
 
 import com.example.userapi.domain.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Implementacion del repositorio usando Spring Data JPA.
@@ -15,12 +24,34 @@ import java.util.UUID;
 public interface JpaUserRepository extends JpaRepository<User, UUID> {
     
     /**
-     * Busca un usuario por su email
+     * Busca un usuario por su email, junto con sus telefonos en la misma consulta
      */
+    @EntityGraph(attributePaths = "phones")
     Optional<User> findByEmail(String email);
     
+    /**
+     * Busca un usuario por su ID, junto con sus telefonos en la misma consulta
+     */
+    @Override
+    @EntityGraph(attributePaths = "phones")
+    Optional<User> findById(UUID id);
+    
     /**
      * Verifica si existe un usuario con el email dado
      */
     boolean existsByEmail(String email);
+    
+    /**
+     * Obtiene los emails registrados dentro del conjunto dado
+     */
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+    
+    /**
+     * Recorre todos los emails registrados sin cargar entidades.
+     * Debe consumirse dentro de una transaccion y cerrarse al terminar.
+     */
+    @Query("select u.email from User u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllEmails();
 }
@@ -0,0 +1,187 @@
+package com.example.userapi.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-Behind Pattern - Buffer de inicios de sesion pendientes de escribir en la base de datos.
+ * Los inicios de sesion se acumulan en memoria por ID de usuario, conservando solo el mas reciente,
+ * y se escriben periodicamente con un unico UPDATE por lotes JDBC en una sesion sin estado de Hibernate.
+ * Asi, una cuenta con muchos inicios de sesion produce a lo sumo una escritura por intervalo.
+ * Si la escritura falla, las entradas vuelven al buffer para el siguiente intervalo; al detener
+ * la aplicacion el buffer se vacia. El UPDATE nunca retrocede un last_login ya escrito.
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class LastLoginWriteBehind implements MeterBinder {
+
+    private static final String UPDATE_LAST_LOGIN =
+            "update users set last_login = ?, modified = ? where id = ? and (last_login is null or last_login < ?)";
+
+    private final SessionFactory sessionFactory;
+    private final int batchSize;
+    private final ConcurrentHashMap<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private volatile Counter writtenCounter;
+    private volatile Timer flushTimer;
+
+    public LastLoginWriteBehind(EntityManagerFactory entityManagerFactory,
+                                @Value("${users.last-login.batch-size:500}") int batchSize) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Agrega un inicio de sesion al buffer; si el usuario ya tenia uno pendiente se conserva el mas reciente
+     */
+    public void record(UUID userId, LocalDateTime lastLogin) {
+        pending.merge(userId, lastLogin, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+    }
+
+    /**
+     * Cantidad de usuarios con un inicio de sesion pendiente de escribir
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Escribe todos los inicios de sesion pendientes con un UPDATE por lotes
+     */
+    @Scheduled(fixedDelayString = "${users.last-login.flush-interval-ms:1000}",
+            initialDelayString = "${users.last-login.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            SortedMap<UUID, LocalDateTime> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                write(batch);
+                Counter counter = writtenCounter;
+                if (counter != null) {
+                    counter.increment(batch.size());
+                }
+            } catch (RuntimeException ex) {
+                log.warn("No se pudo escribir el last_login de {} usuarios, se reintentara: {}",
+                        batch.size(), ex.getMessage());
+                batch.forEach(this::record);
+            } finally {
+                Timer timer = flushTimer;
+                if (timer != null) {
+                    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Vacia el buffer antes de cerrar el EntityManagerFactory
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("Se descartan {} inicios de sesion sin escribir al detener la aplicacion", pending.size());
+        }
+    }
+
+    /**
+     * Retira las entradas pendientes, ordenadas por ID para que las escrituras concurrentes
+     * (por ejemplo, desde varias instancias) bloqueen las filas siempre en el mismo orden
+     */
+    private SortedMap<UUID, LocalDateTime> drain() {
+        SortedMap<UUID, LocalDateTime> batch = new TreeMap<>();
+        for (UUID userId : pending.keySet()) {
+            LocalDateTime lastLogin = pending.remove(userId);
+            if (lastLogin != null) {
+                batch.put(userId, lastLogin);
+            }
+        }
+        return batch;
+    }
+
+    private void write(SortedMap<UUID, LocalDateTime> batch) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                session.doWork(connection -> {
+                    try (PreparedStatement statement = connection.prepareStatement(UPDATE_LAST_LOGIN)) {
+                        int batched = 0;
+                        for (Map.Entry<UUID, LocalDateTime> entry : batch.entrySet()) {
+                            Timestamp lastLogin = Timestamp.valueOf(entry.getValue());
+                            statement.setTimestamp(1, lastLogin);
+                            statement.setTimestamp(2, lastLogin);
+                            statement.setObject(3, entry.getKey());
+                            statement.setTimestamp(4, lastLogin);
+                            statement.addBatch();
+                            if (++batched == batchSize) {
+                                statement.executeBatch();
+                                batched = 0;
+                            }
+                        }
+                        if (batched > 0) {
+                            statement.executeBatch();
+                        }
+                    }
+                });
+                transaction.commit();
+            } catch (RuntimeException ex) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw ex;
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("users.last_login.pending", pending, Map::size)
+                .description("Usuarios con un inicio de sesion pendiente de escribir")
+                .register(registry);
+        writtenCounter = Counter.builder("users.last_login.written")
+                .description("Inicios de sesion escritos en la base de datos tras agruparse por usuario")
+                .register(registry);
+        flushTimer = Timer.builder("users.last_login.flush")
+                .description("Escritura por lotes de los inicios de sesion pendientes")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+    }
+}
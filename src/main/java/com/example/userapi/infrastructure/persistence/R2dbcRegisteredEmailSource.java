@@ -0,0 +1,41 @@
+package com.example.userapi.infrastructure.persistence;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Origen R2DBC de los emails registrados, usado por el perfil {@code reactive}.
+ * Bloquea a proposito: la reconstruccion del filtro corre en el hilo de arranque o en el
+ * de tareas programadas, nunca en un event loop.
+ */
+@Component
+@Profile("reactive")
+public class R2dbcRegisteredEmailSource implements RegisteredEmailSource {
+    
+    private final DatabaseClient databaseClient;
+    
+    public R2dbcRegisteredEmailSource(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+    
+    @Override
+    public long count() {
+        Long count = databaseClient.sql("select count(*) from users")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+        return count == null ? 0 : count;
+    }
+    
+    @Override
+    public void forEachEmail(Consumer<String> action) {
+        databaseClient.sql("select email from users")
+                .map(row -> row.get("email", String.class))
+                .all()
+                .toStream()
+                .forEach(action);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.userapi.infrastructure.persistence;
+
+import com.example.userapi.domain.exception.BusinessException;
+import com.example.userapi.domain.model.Phone;
+import com.example.userapi.domain.model.User;
+import com.example.userapi.domain.repository.ReactiveUserRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Adapter Pattern - Adaptador R2DBC del repositorio reactivo, usado por el perfil {@code reactive}.
+ * Escribe sobre las mismas tablas que el adaptador JPA ({@code users} y {@code phones}) y
+ * consulta primero el {@link EmailExistenceFilter}, igual que {@link UserRepositoryImpl}.
+ */
+@Component
+@Profile("reactive")
+public class R2dbcUserRepository implements ReactiveUserRepository {
+    
+    private static final String INSERT_USER = """
+            insert into users (id, name, email, password, created, modified, last_login, isactive, admin)
+            values (:id, :name, :email, :password, :created, :modified, :lastLogin, :isactive, :admin)""";
+    
+    private static final String INSERT_PHONE = """
+            insert into phones (id, user_id, number, citycode, contrycode)
+            values (:id, :userId, :number, :citycode, :contrycode)""";
+    
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final EmailExistenceFilter emailExistenceFilter;
+    
+    public R2dbcUserRepository(DatabaseClient databaseClient, TransactionalOperator transactionalOperator,
+                               EmailExistenceFilter emailExistenceFilter) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+        this.emailExistenceFilter = emailExistenceFilter;
+    }
+    
+    @Override
+    public Mono<User> save(User user) {
+        // Equivalente a @PrePersist, que R2DBC no ejecuta
+        LocalDateTime now = LocalDateTime.now();
+        user.setCreated(now);
+        user.setModified(now);
+        user.setLastLogin(now);
+        if (user.getIsactive() == null) {
+            user.activate();
+        }
+        
+        Mono<Long> insertUser = databaseClient.sql(INSERT_USER)
+                .bind("id", user.getId())
+                .bind("name", user.getName())
+                .bind("email", user.getEmail())
+                .bind("password", user.getPassword())
+                .bind("created", user.getCreated())
+                .bind("modified", user.getModified())
+                .bind("lastLogin", user.getLastLogin())
+                .bind("isactive", user.getIsactive())
+                .bind("admin", user.isAdmin())
+                .fetch()
+                .rowsUpdated();
+        Flux<Long> insertPhones = Flux.fromIterable(user.getPhones())
+                .concatMap(phone -> insertPhone(user, phone));
+        
+        return insertUser
+                .thenMany(insertPhones)
+                .then(Mono.fromCallable(() -> {
+                    emailExistenceFilter.add(user.getEmail());
+                    return user;
+                }))
+                .as(transactionalOperator::transactional)
+                .onErrorMap(ex -> ex instanceof DataIntegrityViolationException
+                                && UniqueConstraintViolations.isViolationOf(ex, UniqueConstraintViolations.USERS_EMAIL),
+                        ex -> new BusinessException("El correo ya registrado"));
+    }
+    
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        if (emailExistenceFilter.isDefinitelyAbsent(email)) {
+            return Mono.just(false);
+        }
+        return databaseClient.sql("select 1 from users where email = :email limit 1")
+                .bind("email", email)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(false)
+                .doOnNext(exists -> {
+                    if (!exists) {
+                        emailExistenceFilter.recordFalsePositive();
+                    }
+                });
+    }
+    
+    private Mono<Long> insertPhone(User user, Phone phone) {
+        if (phone.getId() == null) {
+            phone.setId(UUID.randomUUID());
+        }
+        return databaseClient.sql(INSERT_PHONE)
+                .bind("id", phone.getId())
+                .bind("userId", user.getId())
+                .bind("number", phone.getNumber())
+                .bind("citycode", phone.getCitycode())
+                .bind("contrycode", phone.getContrycode())
+                .fetch()
+                .rowsUpdated();
+    }
+}
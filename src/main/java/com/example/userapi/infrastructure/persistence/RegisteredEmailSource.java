@@ -0,0 +1,21 @@
+package com.example.userapi.infrastructure.persistence;
+
+import java.util.function.Consumer;
+
+/**
+ * Origen de los emails registrados con el que se reconstruye el {@link EmailExistenceFilter}.
+ * Cada perfil lo implementa con su propio acceso a datos: JPA en la aplicacion servlet
+ * y R2DBC en el perfil {@code reactive}, que no levanta JPA.
+ */
+public interface RegisteredEmailSource {
+    
+    /**
+     * Cantidad de usuarios registrados, para dimensionar el filtro
+     */
+    long count();
+    
+    /**
+     * Recorre todos los emails registrados sin cargar los usuarios
+     */
+    void forEachEmail(Consumer<String> action);
+}
@@ -0,0 +1,62 @@
+package com.example.userapi.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Token revocado, identificado por su jti. Se conserva solo hasta la expiracion del token,
+ * despues de la cual el token ya no es valido de todos modos.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken implements Persistable<String> {
+
+    @Id
+    @Column(length = 36, updatable = false, nullable = false)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private Instant expiresAt;
+
+    /**
+     * Momento de la revocacion; marca de agua de la sincronizacion entre instancias
+     */
+    @Column(name = "revoked_at", nullable = false, updatable = false)
+    private Instant revokedAt;
+
+    public RevokedToken(String jti, Instant expiresAt, Instant revokedAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    @Override
+    public String getId() {
+        return jti;
+    }
+
+    /**
+     * Siempre se inserta directamente (sin SELECT previo); una revocacion repetida
+     * falla por la llave primaria y se ignora
+     */
+    @Override
+    @Transient
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.userapi.infrastructure.persistence;
+
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.util.Locale;
+
+/**
+ * Identifica la restriccion violada en los errores de integridad, para que solo la
+ * restriccion unica esperada se traduzca a un error de negocio y el resto (NOT NULL,
+ * claves foraneas, otras restricciones unicas) se propague sin cambios.
+ * Lo usan los adaptadores y el registro por lotes, cuya violacion aparece al confirmar la transaccion.
+ */
+public final class UniqueConstraintViolations {
+
+    /**
+     * Restriccion unica sobre {@code users.email} (V1__create_users_and_phones.sql y {@code User})
+     */
+    public static final String USERS_EMAIL = "uk_users_email";
+
+    private UniqueConstraintViolations() {
+    }
+
+    /**
+     * Indica si la causa del error es la violacion de la restriccion dada. Usa el nombre que
+     * extrae Hibernate cuando esta disponible y, si no (R2DBC), el mensaje del driver.
+     */
+    public static boolean isViolationOf(Throwable error, String constraintName) {
+        String expected = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(expected);
+            }
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
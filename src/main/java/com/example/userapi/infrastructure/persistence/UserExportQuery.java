@@ -0,0 +1,95 @@
+package com.example.userapi.infrastructure.persistence;
+
+import com.example.userapi.domain.model.Phone;
+import com.example.userapi.domain.model.UserSummary;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Recorrido completo de la tabla de usuarios para exportaciones masivas.
+ * Usa una sesion sin estado de Hibernate y un cursor JDBC de solo avance con fetch size,
+ * proyectando solo columnas publicas (sin password ni token). Los telefonos llegan en la
+ * misma consulta (left join ordenado por ID) y se agrupan por usuario al vuelo, de modo que
+ * la memoria usada no depende de la cantidad de filas.
+ */
+@Component
+@Profile("!reactive")
+public class UserExportQuery {
+
+    private static final String EXPORT_QUERY =
+            "select u.id, u.name, u.email, u.created, u.modified, u.lastLogin, u.isactive,"
+            + " p.number, p.citycode, p.contrycode"
+            + " from User u left join u.phones p order by u.id";
+
+    private final SessionFactory sessionFactory;
+
+    @Value("${users.export.fetch-size:1000}")
+    private int fetchSize;
+
+    public UserExportQuery(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * Entrega cada usuario al consumidor a medida que se lee del cursor
+     *
+     * @return Cantidad de usuarios recorridos
+     */
+    public long forEachUser(Consumer<UserSummary> consumer) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try (ScrollableResults<Object[]> rows = session.createSelectionQuery(EXPORT_QUERY, Object[].class)
+                    .setFetchSize(fetchSize)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                long count = 0;
+                Object[] current = null;
+                List<Phone> phones = new ArrayList<>();
+                while (rows.next()) {
+                    Object[] row = rows.get();
+                    if (current != null && !current[0].equals(row[0])) {
+                        consumer.accept(toSummary(current, phones));
+                        count++;
+                        phones = new ArrayList<>();
+                    }
+                    current = row;
+                    if (row[7] != null) {
+                        phones.add(new Phone((String) row[7], (String) row[8], (String) row[9]));
+                    }
+                }
+                if (current != null) {
+                    consumer.accept(toSummary(current, phones));
+                    count++;
+                }
+                return count;
+            } finally {
+                // Solo lectura: se libera la conexion sin confirmar cambios
+                transaction.rollback();
+            }
+        }
+    }
+
+    private static UserSummary toSummary(Object[] row, List<Phone> phones) {
+        return new UserSummary(
+                (UUID) row[0],
+                (String) row[1],
+                (String) row[2],
+                phones,
+                (LocalDateTime) row[3],
+                (LocalDateTime) row[4],
+                (LocalDateTime) row[5],
+                (Boolean) row[6]);
+    }
+}
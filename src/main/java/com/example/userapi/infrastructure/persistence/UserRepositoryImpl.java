@@ -1,27 +1,90 @@
 package com.example.userapi.infrastructure.persistence;
 
+import com.example.userapi.domain.exception.BusinessException;
 import com.example.userapi.domain.model.User;
+import com.example.userapi.domain.model.UserSearchCriteria;
+import com.example.userapi.domain.model.UserSummary;
 import com.example.userapi.domain.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Adapter Pattern - Adaptador que implementa la interfaz del dominio
  * delegando las operaciones al repositorio de Spring Data JPA.
  * Esto permite que el dominio no dependa de Spring Data JPA.
+ * Las verificaciones de existencia por email pasan primero por el
+ * {@link EmailExistenceFilter}, que evita la consulta cuando el email con certeza es nuevo.
+ * Los save no fuerzan un flush, para que Hibernate siga agrupando los INSERT en lotes JDBC: su tiempo
+ * se mide hasta que termina la transaccion, incluidos el flush y el commit. En el registro individual,
+ * que no abre una transaccion externa, el save confirma su propia transaccion y la violacion
+ * de la restriccion unica del email ({@code uk_users_email}) se traduce a {@link BusinessException} (409),
+ * igual que en R2DBC; cualquier otro error de integridad se propaga.
+ * Los inicios de sesion no se escriben de inmediato: se agrupan en {@link LastLoginWriteBehind}.
  */
 @Component
+@Profile("!reactive")
 @RequiredArgsConstructor
-public class UserRepositoryImpl implements UserRepository {
+public class UserRepositoryImpl implements UserRepository, MeterBinder {
     
     private final JpaUserRepository jpaUserRepository;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final UserSearchQuery userSearchQuery;
+    private final UserExportQuery userExportQuery;
+    private final LastLoginWriteBehind lastLoginWriteBehind;
+    
+    private volatile Timer saveTimer;
+    private volatile Timer saveAllTimer;
     
     @Override
     public User save(User user) {
-        return jpaUserRepository.save(user);
+        long start = System.nanoTime();
+        boolean recordedAtCompletion = recordAtCompletion(saveTimer, start);
+        User savedUser;
+        try {
+            savedUser = jpaUserRepository.save(user);
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueConstraintViolations.isViolationOf(ex, UniqueConstraintViolations.USERS_EMAIL)) {
+                throw new BusinessException("El correo ya registrado");
+            }
+            throw ex;
+        } finally {
+            if (!recordedAtCompletion) {
+                record(saveTimer, start);
+            }
+        }
+        emailExistenceFilter.add(savedUser.getEmail());
+        return savedUser;
+    }
+    
+    @Override
+    public List<User> saveAll(List<User> users) {
+        long start = System.nanoTime();
+        boolean recordedAtCompletion = recordAtCompletion(saveAllTimer, start);
+        List<User> savedUsers = jpaUserRepository.saveAll(users);
+        if (!recordedAtCompletion) {
+            record(saveAllTimer, start);
+        }
+        savedUsers.forEach(savedUser -> emailExistenceFilter.add(savedUser.getEmail()));
+        return savedUsers;
     }
     
     @Override
@@ -36,6 +99,95 @@ public class UserRepositoryImpl implements UserRepository {
     
     @Override
     public boolean existsByEmail(String email) {
-        return jpaUserRepository.existsByEmail(email);
+        if (emailExistenceFilter.isDefinitelyAbsent(email)) {
+            return false;
+        }
+        boolean exists = jpaUserRepository.existsByEmail(email);
+        if (!exists) {
+            emailExistenceFilter.recordFalsePositive();
+        }
+        return exists;
+    }
+    
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        List<String> candidates = emails.stream()
+                .filter(email -> !emailExistenceFilter.isDefinitelyAbsent(email))
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaUserRepository.findEmailsIn(candidates));
+    }
+    
+    @Override
+    public Set<String> confirmExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> existing = new HashSet<>(jpaUserRepository.findEmailsIn(emails));
+        existing.forEach(emailExistenceFilter::add);
+        return existing;
+    }
+    
+    @Override
+    public List<UserSummary> search(UserSearchCriteria criteria) {
+        return userSearchQuery.search(criteria);
+    }
+    
+    @Override
+    public List<UserSummary> findByPhone(String contrycode, String citycode, String number, int limit) {
+        return userSearchQuery.findByPhone(contrycode, citycode, number, limit);
+    }
+    
+    @Override
+    public long forEachUser(Consumer<UserSummary> consumer) {
+        return userExportQuery.forEachUser(consumer);
+    }
+    
+    @Override
+    public void recordLastLogin(UUID id, LocalDateTime lastLogin) {
+        lastLoginWriteBehind.record(id, lastLogin);
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        saveTimer = saveTimer(registry, "save");
+        saveAllTimer = saveTimer(registry, "save_all");
+    }
+    
+    private static Timer saveTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("users.jpa.save")
+                .description("Persistencia JPA de usuarios hasta el fin de la transaccion (flush y commit)")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+    }
+    
+    /**
+     * Con una transaccion en curso, registra el tiempo al completarse (commit o rollback);
+     * sin ella, el repositorio confirma su propia transaccion antes de retornar
+     * 
+     * @return true si el tiempo se registrara al completarse la transaccion
+     */
+    private static boolean recordAtCompletion(Timer timer, long start) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                record(timer, start);
+            }
+        });
+        return true;
+    }
+    
+    private static void record(Timer timer, long start) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
 }
@@ -0,0 +1,144 @@
+package com.example.userapi.infrastructure.persistence;
+
+import com.example.userapi.domain.model.Phone;
+import com.example.userapi.domain.model.UserSearchCriteria;
+import com.example.userapi.domain.model.UserSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Consulta de usuarios paginada por keyset sobre (created, id).
+ * Proyecta solo las columnas publicas (sin password ni token) y carga los telefonos
+ * de toda la pagina con una unica consulta adicional, sin inicializar colecciones por usuario.
+ */
+@Component
+@Profile("!reactive")
+public class UserSearchQuery {
+    
+    private static final char LIKE_ESCAPE = '!';
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    /**
+     * Ejecuta la busqueda: una consulta para la pagina y otra para sus telefonos
+     */
+    @Transactional(readOnly = true)
+    public List<UserSummary> search(UserSearchCriteria criteria) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = new StringBuilder(
+                "select u.id, u.name, u.email, u.created, u.modified, u.lastLogin, u.isactive from User u where 1 = 1");
+        
+        if (criteria.isactive() != null) {
+            jpql.append(" and u.isactive = :isactive");
+            parameters.put("isactive", criteria.isactive());
+        }
+        if (criteria.emailPrefix() != null && !criteria.emailPrefix().isEmpty()) {
+            jpql.append(" and u.email like :emailPrefix escape '").append(LIKE_ESCAPE).append("'");
+            parameters.put("emailPrefix", escapeLike(criteria.emailPrefix()) + "%");
+        }
+        if (criteria.createdFrom() != null) {
+            jpql.append(" and u.created >= :createdFrom");
+            parameters.put("createdFrom", criteria.createdFrom());
+        }
+        if (criteria.createdTo() != null) {
+            jpql.append(" and u.created < :createdTo");
+            parameters.put("createdTo", criteria.createdTo());
+        }
+        if (criteria.afterCreated() != null && criteria.afterId() != null) {
+            jpql.append(" and (u.created > :afterCreated or (u.created = :afterCreated and u.id > :afterId))");
+            parameters.put("afterCreated", criteria.afterCreated());
+            parameters.put("afterId", criteria.afterId());
+        }
+        jpql.append(" order by u.created asc, u.id asc");
+        
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class)
+                .setMaxResults(criteria.limit());
+        parameters.forEach(query::setParameter);
+        return toSummaries(query.getResultList());
+    }
+    
+    /**
+     * Busca los usuarios con el telefono dado usando el indice (contrycode, citycode, number)
+     */
+    @Transactional(readOnly = true)
+    public List<UserSummary> findByPhone(String contrycode, String citycode, String number, int limit) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select distinct u.id, u.name, u.email, u.created, u.modified, u.lastLogin, u.isactive"
+                                + " from Phone p join p.user u"
+                                + " where p.contrycode = :contrycode and p.citycode = :citycode and p.number = :number"
+                                + " order by u.created asc, u.id asc",
+                        Object[].class)
+                .setParameter("contrycode", contrycode)
+                .setParameter("citycode", citycode)
+                .setParameter("number", number)
+                .setMaxResults(limit)
+                .getResultList();
+        return toSummaries(rows);
+    }
+    
+    /**
+     * Completa las filas con los telefonos de todos los usuarios en una sola consulta
+     */
+    private List<UserSummary> toSummaries(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<UUID, Object[]> rowsById = new LinkedHashMap<>();
+        rows.forEach(row -> rowsById.put((UUID) row[0], row));
+        Map<UUID, List<Phone>> phonesByUser = findPhones(rowsById.keySet());
+        
+        List<UserSummary> page = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            UUID id = (UUID) row[0];
+            page.add(new UserSummary(
+                    id,
+                    (String) row[1],
+                    (String) row[2],
+                    phonesByUser.getOrDefault(id, List.of()),
+                    (LocalDateTime) row[3],
+                    (LocalDateTime) row[4],
+                    (LocalDateTime) row[5],
+                    (Boolean) row[6]));
+        }
+        return page;
+    }
+    
+    /**
+     * Carga los telefonos de todos los usuarios de la pagina en una sola consulta
+     */
+    private Map<UUID, List<Phone>> findPhones(Collection<UUID> userIds) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select p.user.id, p.number, p.citycode, p.contrycode from Phone p where p.user.id in :ids",
+                        Object[].class)
+                .setParameter("ids", userIds)
+                .getResultList();
+        Map<UUID, List<Phone>> phonesByUser = new HashMap<>();
+        for (Object[] row : rows) {
+            phonesByUser.computeIfAbsent((UUID) row[0], id -> new ArrayList<>())
+                    .add(new Phone((String) row[1], (String) row[2], (String) row[3]));
+        }
+        return phonesByUser;
+    }
+    
+    private static String escapeLike(String value) {
+        return value
+                .replace(String.valueOf(LIKE_ESCAPE), "" + LIKE_ESCAPE + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+    }
+}
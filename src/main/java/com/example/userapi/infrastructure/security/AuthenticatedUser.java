@@ -0,0 +1,37 @@
+package com.example.userapi.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Principal autenticado construido exclusivamente a partir de los claims del JWT,
+ * sin consultar la base de datos
+ */
+public record AuthenticatedUser(UUID id, String email, List<String> roles) {
+    
+    /**
+     * Construye el principal desde claims ya verificados
+     */
+    public static AuthenticatedUser fromClaims(Claims claims) {
+        String userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, String.class);
+        List<?> roles = claims.get(JwtTokenProvider.CLAIM_ROLES, List.class);
+        return new AuthenticatedUser(
+                userId == null ? null : UUID.fromString(userId),
+                claims.getSubject(),
+                roles == null ? List.of() : roles.stream().map(String::valueOf).toList());
+    }
+    
+    /**
+     * Authorities de Spring Security derivadas de los roles del token
+     */
+    public Collection<GrantedAuthority> authorities() {
+        return roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+    }
+}
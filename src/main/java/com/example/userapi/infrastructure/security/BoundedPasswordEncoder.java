@@ -0,0 +1,114 @@
+package com.example.userapi.infrastructure.security;
+
+import com.example.userapi.domain.exception.ServiceOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decorator Pattern - Ejecuta el hashing de contraseñas en un pool dedicado y acotado.
+ * Limita cuantos hashes se calculan en paralelo para que las rafagas de registros no
+ * consuman todo el CPU, y rechaza con {@link ServiceOverloadedException} (503) cuando
+ * la cola de espera esta llena; ese rechazo es el mecanismo de descarte de carga.
+ * El tiempo maximo de espera solo acota cuanto espera el llamador: BCrypt, Argon2 y PBKDF2
+ * no responden a la interrupcion, por lo que un hash ya iniciado ocupa su hilo hasta terminar
+ * aunque el llamador haya recibido el 503. Cancelar solo evita ejecutar las tareas aun en cola.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+    
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long timeoutMs) {
+        this.delegate = delegate;
+        this.timeoutMs = timeoutMs;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+    
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+    
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+    
+    /**
+     * Cantidad de tareas de hashing esperando en la cola
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+    
+    /**
+     * Cantidad de hilos calculando hashes en este momento
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+    
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+    
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Cola de hashing saturada ({} en espera), rechazando peticion", getQueueDepth());
+            throw new ServiceOverloadedException("Servicio temporalmente saturado, intente nuevamente");
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            // Si el hash ya empezo, sigue ocupando el hilo: la interrupcion no lo detiene
+            future.cancel(true);
+            throw new ServiceOverloadedException("Servicio temporalmente saturado, intente nuevamente");
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hashing de contraseña interrumpido", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error calculando el hash de la contraseña", ex.getCause());
+        }
+    }
+    
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.userapi.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Credenciales de clientes de servicio (gateway, scraper de metricas) enviadas con HTTP Basic.
+ * Cada cliente autenticado recibe el rol con su nombre en mayusculas (gateway -> ROLE_GATEWAY).
+ * Los clientes sin secreto configurado quedan deshabilitados. Los secretos se comparan por su
+ * hash SHA-256 en tiempo constante, sin revelar por tiempo ni el largo ni el prefijo correcto.
+ */
+public final class ClientCredentials {
+
+    /**
+     * Rol del gateway, requerido por la introspeccion de tokens
+     */
+    public static final String ROLE_GATEWAY = "GATEWAY";
+
+    /**
+     * Rol del scraper de metricas, requerido por los endpoints de actuator distintos de health
+     */
+    public static final String ROLE_METRICS = "METRICS";
+
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private final Map<String, byte[]> secretHashes;
+
+    /**
+     * @param clientSecrets Secreto por nombre de cliente; los secretos vacios deshabilitan al cliente
+     */
+    public ClientCredentials(Map<String, String> clientSecrets) {
+        Map<String, byte[]> hashes = new HashMap<>();
+        clientSecrets.forEach((clientId, secret) -> {
+            if (secret != null && !secret.isBlank()) {
+                hashes.put(clientId, sha256(secret));
+            }
+        });
+        this.secretHashes = Map.copyOf(hashes);
+    }
+
+    /**
+     * Autentica la cabecera Authorization
+     *
+     * @return Rol del cliente, o vacio si la cabecera no es Basic o las credenciales no coinciden
+     */
+    public Optional<String> authenticate(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BASIC_PREFIX)) {
+            return Optional.empty();
+        }
+        String credentials;
+        try {
+            credentials = new String(Base64.getDecoder().decode(
+                    authorizationHeader.substring(BASIC_PREFIX.length()).trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+        int separator = credentials.indexOf(':');
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+        String clientId = credentials.substring(0, separator);
+        byte[] expected = secretHashes.get(clientId);
+        if (expected == null || !MessageDigest.isEqual(expected, sha256(credentials.substring(separator + 1)))) {
+            return Optional.empty();
+        }
+        return Optional.of(clientId.toUpperCase(Locale.ROOT));
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+}
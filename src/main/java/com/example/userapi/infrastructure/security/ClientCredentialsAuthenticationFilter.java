@@ -0,0 +1,45 @@
+package com.example.userapi.infrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Filtro de autenticacion de clientes de servicio con HTTP Basic ({@link ClientCredentials}).
+ * Igual que {@link JwtAuthenticationFilter}, se registra en {@code SecurityConfig} y no como componente.
+ */
+public class ClientCredentialsAuthenticationFilter extends OncePerRequestFilter {
+
+    private final ClientCredentials clientCredentials;
+
+    public ClientCredentialsAuthenticationFilter(ClientCredentials clientCredentials) {
+        this.clientCredentials = clientCredentials;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        clientCredentials.authenticate(request.getHeader(HttpHeaders.AUTHORIZATION))
+                .ifPresent(this::authenticate);
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(String role) {
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                role.toLowerCase(Locale.ROOT), null, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.userapi.infrastructure.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Emisor de tokens para la forma fija de claims de la API (jti, sub, iat, exp, roles, uid).
+ * Produce el mismo JWS compacto que el builder de jjwt (mismo header, mismos claims en el mismo
+ * orden y la misma firma), pero con el segmento del header ya codificado, un escritor JSON directo
+ * y un pool acotado de instancias de {@link Mac} o {@link Signature} ya inicializadas con la clave.
+ * El pool no depende del hilo (a diferencia de un ThreadLocal), por lo que con virtual threads,
+ * que se crean por peticion, las instancias se siguen reutilizando en lugar de crearse en cada firma.
+ * ES256 firma en formato P1363 (R||S), que es el que exige JWS.
+ */
+final class FastJwtEncoder {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * Instancias retenidas: la firma es trabajo de CPU, no hay mas firmas simultaneas que nucleos
+     */
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final byte[] headerSegment;
+    private final Supplier<Signer> signerFactory;
+    private final BlockingQueue<Signer> signers = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private FastJwtEncoder(String headerJson, Supplier<Signer> signerFactory) {
+        this.headerSegment = BASE64_URL.encode(headerJson.getBytes(StandardCharsets.UTF_8));
+        this.signerFactory = signerFactory;
+    }
+
+    /**
+     * Emisor HMAC sin kid, equivalente a {@code signWith(SecretKey)}: como jjwt, el algoritmo
+     * (HS256, HS384 o HS512) se deduce del largo de la clave
+     */
+    static FastJwtEncoder hmac(SecretKey key) {
+        String alg = switch (key.getAlgorithm()) {
+            case "HmacSHA512" -> "HS512";
+            case "HmacSHA384" -> "HS384";
+            default -> "HS256";
+        };
+        return new FastJwtEncoder("{\"alg\":\"" + alg + "\"}", () -> {
+            Mac mac = newInstance(() -> Mac.getInstance(key.getAlgorithm()));
+            init(() -> mac.init(key));
+            return mac::doFinal;
+        });
+    }
+
+    /**
+     * Emisor asimetrico (ES256 o EdDSA) con kid, equivalente a {@code header().keyId(kid)...signWith(key, alg)}
+     */
+    static FastJwtEncoder asymmetric(String kid, PrivateKey key, SignatureAlgorithm algorithm) {
+        String jcaName = algorithm == Jwts.SIG.ES256 ? "SHA256withECDSAinP1363Format" : "Ed25519";
+        String headerJson = "{\"kid\":\"" + escape(kid) + "\",\"alg\":\"" + algorithm.getId() + "\"}";
+        return new FastJwtEncoder(headerJson, () -> {
+            Signature signature = newInstance(() -> Signature.getInstance(jcaName));
+            init(() -> signature.initSign(key));
+            // sign() deja la instancia lista para firmar de nuevo con la misma clave
+            return input -> {
+                try {
+                    signature.update(input);
+                    return signature.sign();
+                } catch (GeneralSecurityException ex) {
+                    throw new IllegalStateException("No se pudo firmar el token", ex);
+                }
+            };
+        });
+    }
+
+    /**
+     * Emite el token
+     *
+     * @param roles Roles del usuario, o null para omitir el claim
+     * @param userId ID del usuario, o null para omitir el claim
+     */
+    String encode(String jti, String subject, long issuedAtSeconds, long expirationSeconds,
+                  List<String> roles, String userId) {
+        StringBuilder claims = new StringBuilder(160);
+        claims.append("{\"jti\":\"").append(jti)
+                .append("\",\"sub\":\"");
+        appendEscaped(claims, subject);
+        claims.append("\",\"iat\":").append(issuedAtSeconds)
+                .append(",\"exp\":").append(expirationSeconds);
+        if (roles != null) {
+            claims.append(",\"roles\":[");
+            for (int i = 0; i < roles.size(); i++) {
+                if (i > 0) {
+                    claims.append(',');
+                }
+                claims.append('"');
+                appendEscaped(claims, roles.get(i));
+                claims.append('"');
+            }
+            claims.append(']');
+        }
+        if (userId != null) {
+            claims.append(",\"uid\":\"").append(userId).append('"');
+        }
+        claims.append('}');
+
+        byte[] payloadSegment = BASE64_URL.encode(claims.toString().getBytes(StandardCharsets.UTF_8));
+        byte[] signingInput = new byte[headerSegment.length + 1 + payloadSegment.length];
+        System.arraycopy(headerSegment, 0, signingInput, 0, headerSegment.length);
+        signingInput[headerSegment.length] = '.';
+        System.arraycopy(payloadSegment, 0, signingInput, headerSegment.length + 1, payloadSegment.length);
+
+        byte[] signatureSegment = BASE64_URL.encode(sign(signingInput));
+        byte[] token = new byte[signingInput.length + 1 + signatureSegment.length];
+        System.arraycopy(signingInput, 0, token, 0, signingInput.length);
+        token[signingInput.length] = '.';
+        System.arraycopy(signatureSegment, 0, token, signingInput.length + 1, signatureSegment.length);
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Firma con una instancia del pool, o con una nueva si todas estan en uso.
+     * Sin bloquear: al devolverla, las que exceden la capacidad del pool se descartan.
+     */
+    private byte[] sign(byte[] signingInput) {
+        Signer signer = signers.poll();
+        if (signer == null) {
+            signer = signerFactory.get();
+        }
+        try {
+            return signer.sign(signingInput);
+        } finally {
+            signers.offer(signer);
+        }
+    }
+
+    /**
+     * Escapa como Jackson: comillas, barra invertida y caracteres de control
+     */
+    private static void appendEscaped(StringBuilder json, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\b' -> json.append("\\b");
+                case '\f' -> json.append("\\f");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String escape(String value) {
+        StringBuilder json = new StringBuilder(value.length());
+        appendEscaped(json, value);
+        return json.toString();
+    }
+
+    private static <T> T newInstance(SecuritySupplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Algoritmo de firma no disponible", ex);
+        }
+    }
+
+    private static void init(SecurityAction action) {
+        try {
+            action.run();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Clave de firma invalida", ex);
+        }
+    }
+
+    /**
+     * Firma del signing input (header.payload); usada por un solo hilo a la vez
+     */
+    @FunctionalInterface
+    private interface Signer {
+        byte[] sign(byte[] input);
+    }
+
+    @FunctionalInterface
+    private interface SecuritySupplier<T> {
+        T get() throws GeneralSecurityException;
+    }
+
+    @FunctionalInterface
+    private interface SecurityAction {
+        void run() throws GeneralSecurityException;
+    }
+}
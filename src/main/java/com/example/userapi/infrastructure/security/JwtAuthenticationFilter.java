@@ -0,0 +1,51 @@
+package com.example.userapi.infrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filtro de autenticacion stateless basado en el Bearer token.
+ * Verifica el token solo con {@link JwtTokenProvider} y construye la autenticacion
+ * desde sus claims, sin ninguna consulta a la base de datos por peticion.
+ * Se registra en {@code SecurityConfig}, no como componente, para que el contenedor
+ * de servlets no lo registre por segunda vez.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    
+    private static final String BEARER_PREFIX = "Bearer ";
+    
+    private final JwtTokenProvider jwtTokenProvider;
+    
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            jwtTokenProvider.parse(header.substring(BEARER_PREFIX.length()).trim())
+                    .map(AuthenticatedUser::fromClaims)
+                    .ifPresent(this::authenticate);
+        }
+        filterChain.doFilter(request, response);
+    }
+    
+    private void authenticate(AuthenticatedUser principal) {
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.authorities());
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.userapi.infrastructure.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Conjunto inmutable de claves asimetricas para firmar y verificar tokens (ES256 o EdDSA).
+ * Firma con una unica clave activa, identificada por su kid, y verifica con cualquiera de las
+ * claves publicas del conjunto, resolviendo el kid con una busqueda en un mapa inmutable.
+ * El JWKS con las claves publicas se serializa una sola vez al construir el conjunto.
+ * <p>
+ * Las claves se leen de un directorio con {@code <kid>.pub.pem} (X.509) para cada clave aceptada
+ * y {@code <kid>.key.pem} (PKCS#8) para la clave activa. Para rotar, se agrega el nuevo par, se
+ * activa su kid y la clave anterior se conserva solo con su parte publica hasta que expiren sus tokens.
+ */
+final class JwtKeyRing {
+
+    private static final Pattern KID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final String PUBLIC_SUFFIX = ".pub.pem";
+    private static final String PRIVATE_SUFFIX = ".key.pem";
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    /**
+     * Clave activa de firma
+     */
+    record SigningKey(String kid, PrivateKey key, SignatureAlgorithm algorithm) {
+    }
+
+    private final SigningKey signingKey;
+    private final Map<String, PublicKey> verificationKeys;
+    private final byte[] jwks;
+    private final String jwksEtag;
+
+    private JwtKeyRing(SigningKey signingKey, Map<String, PublicKey> verificationKeys) {
+        this.signingKey = signingKey;
+        this.verificationKeys = Map.copyOf(verificationKeys);
+        this.jwks = serializeJwks(this.verificationKeys);
+        this.jwksEtag = etag(jwks);
+    }
+
+    /**
+     * Genera un par de claves en memoria, valido solo mientras viva el proceso.
+     * Util en desarrollo y pruebas; con varias instancias deben configurarse claves compartidas.
+     *
+     * @param algorithm ES256 o EdDSA
+     */
+    static JwtKeyRing generate(String algorithm) {
+        SignatureAlgorithm signatureAlgorithm = signatureAlgorithm(algorithm);
+        KeyPair keyPair = generateKeyPair(algorithm);
+        String kid = "ephemeral-" + UUID.randomUUID().toString().substring(0, 8);
+        return new JwtKeyRing(new SigningKey(kid, keyPair.getPrivate(), signatureAlgorithm),
+                Map.of(kid, keyPair.getPublic()));
+    }
+
+    /**
+     * Carga las claves del directorio dado
+     *
+     * @param directory Directorio con los archivos PEM
+     * @param activeKid kid de la clave de firma; si esta vacio se usa el mayor kid con clave privada
+     */
+    static JwtKeyRing load(Path directory, String activeKid) {
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        Map<String, Path> privateKeys = new HashMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(PUBLIC_SUFFIX)) {
+                    publicKeys.put(kid(name, PUBLIC_SUFFIX), readPublicKey(file));
+                } else if (name.endsWith(PRIVATE_SUFFIX)) {
+                    privateKeys.put(kid(name, PRIVATE_SUFFIX), file);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudieron leer las claves JWT de " + directory, ex);
+        }
+
+        String kid = activeKid == null || activeKid.isBlank()
+                ? privateKeys.keySet().stream().sorted().reduce((first, second) -> second).orElse(null)
+                : activeKid;
+        if (kid == null || !privateKeys.containsKey(kid) || !publicKeys.containsKey(kid)) {
+            throw new IllegalStateException("La clave JWT activa '" + kid + "' requiere "
+                    + kid + PRIVATE_SUFFIX + " y " + kid + PUBLIC_SUFFIX + " en " + directory);
+        }
+        PrivateKey privateKey = readPrivateKey(privateKeys.get(kid));
+        return new JwtKeyRing(new SigningKey(kid, privateKey, signatureAlgorithm(privateKey)), publicKeys);
+    }
+
+    /**
+     * Genera un par de claves P-256 (ES256) o Ed25519 (EdDSA)
+     */
+    static KeyPair generateKeyPair(String algorithm) {
+        try {
+            if (signatureAlgorithm(algorithm) == Jwts.SIG.ES256) {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                return generator.generateKeyPair();
+            }
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("No se pudo generar la clave JWT " + algorithm, ex);
+        }
+    }
+
+    SigningKey signingKey() {
+        return signingKey;
+    }
+
+    /**
+     * Clave publica del kid dado, o null si no pertenece al conjunto
+     */
+    PublicKey verificationKey(String kid) {
+        return verificationKeys.get(kid);
+    }
+
+    /**
+     * JWKS serializado. Retorna siempre el mismo arreglo: no debe modificarse.
+     */
+    byte[] jwks() {
+        return jwks;
+    }
+
+    String jwksEtag() {
+        return jwksEtag;
+    }
+
+    static SignatureAlgorithm signatureAlgorithm(String algorithm) {
+        return switch (algorithm.toUpperCase(Locale.ROOT)) {
+            case "ES256" -> Jwts.SIG.ES256;
+            case "EDDSA", "ED25519" -> Jwts.SIG.EdDSA;
+            default -> throw new IllegalArgumentException("Algoritmo de firma JWT no soportado: " + algorithm);
+        };
+    }
+
+    private static SignatureAlgorithm signatureAlgorithm(PrivateKey key) {
+        if (key instanceof ECPrivateKey) {
+            return Jwts.SIG.ES256;
+        }
+        if (key instanceof EdECPrivateKey) {
+            return Jwts.SIG.EdDSA;
+        }
+        throw new IllegalStateException("Tipo de clave JWT no soportado: " + key.getAlgorithm());
+    }
+
+    private static String kid(String fileName, String suffix) {
+        String kid = fileName.substring(0, fileName.length() - suffix.length());
+        if (!KID.matcher(kid).matches()) {
+            throw new IllegalStateException("kid invalido en el archivo de clave JWT: " + fileName);
+        }
+        return kid;
+    }
+
+    private static PublicKey readPublicKey(Path file) {
+        X509EncodedKeySpec spec = new X509EncodedKeySpec(readPem(file));
+        GeneralSecurityException failure = null;
+        for (String algorithm : List.of("EC", "Ed25519")) {
+            try {
+                return KeyFactory.getInstance(algorithm).generatePublic(spec);
+            } catch (GeneralSecurityException ex) {
+                failure = ex;
+            }
+        }
+        throw new IllegalStateException("Clave publica JWT invalida: " + file, failure);
+    }
+
+    private static PrivateKey readPrivateKey(Path file) {
+        PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(readPem(file));
+        GeneralSecurityException failure = null;
+        for (String algorithm : List.of("EC", "Ed25519")) {
+            try {
+                return KeyFactory.getInstance(algorithm).generatePrivate(spec);
+            } catch (GeneralSecurityException ex) {
+                failure = ex;
+            }
+        }
+        throw new IllegalStateException("Clave privada JWT invalida: " + file, failure);
+    }
+
+    private static byte[] readPem(Path file) {
+        try {
+            String base64 = Files.readAllLines(file).stream()
+                    .filter(line -> !line.startsWith("-----"))
+                    .map(String::trim)
+                    .reduce("", String::concat);
+            return Base64.getDecoder().decode(base64);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo leer la clave JWT " + file, ex);
+        }
+    }
+
+    private static byte[] serializeJwks(Map<String, PublicKey> keys) {
+        List<Map<String, String>> jwks = new ArrayList<>();
+        keys.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> jwks.add(jwk(entry.getKey(), entry.getValue())));
+        try {
+            return JSON.writeValueAsBytes(Map.of("keys", jwks));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo serializar el JWKS", ex);
+        }
+    }
+
+    /**
+     * Representacion JWK (RFC 7517/7518/8037) de una clave publica
+     */
+    private static Map<String, String> jwk(String kid, PublicKey key) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        Base64.Encoder base64Url = Base64.getUrlEncoder().withoutPadding();
+        if (key instanceof ECPublicKey ec) {
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url.encodeToString(coordinate(ec.getW().getAffineX())));
+            jwk.put("y", base64Url.encodeToString(coordinate(ec.getW().getAffineY())));
+            jwk.put("alg", "ES256");
+        } else if (key instanceof EdECPublicKey) {
+            // La codificacion X.509 de Ed25519 termina con los 32 bytes de la clave publica
+            byte[] encoded = key.getEncoded();
+            jwk.put("kty", "OKP");
+            jwk.put("crv", "Ed25519");
+            jwk.put("x", base64Url.encodeToString(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)));
+            jwk.put("alg", "EdDSA");
+        } else {
+            throw new IllegalStateException("Tipo de clave JWT no soportado: " + key.getAlgorithm());
+        }
+        jwk.put("use", "sig");
+        jwk.put("kid", kid);
+        return jwk;
+    }
+
+    /**
+     * Coordenada de la curva P-256 como entero sin signo de 32 bytes
+     */
+    private static byte[] coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == 32) {
+            return bytes;
+        }
+        byte[] fixed = new byte[32];
+        int length = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+        return fixed;
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    }
+}
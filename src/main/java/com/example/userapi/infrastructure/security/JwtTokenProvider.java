@@ -1,88 +1,462 @@
 package com.example.userapi.infrastructure.security;
 
+import com.example.userapi.domain.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.Locator;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Factory Pattern - Proveedor de tokens JWT.
  * Encapsula la logica de generacion y validacion de tokens.
+ * Firma con una clave asimetrica (ES256 o EdDSA) identificada por el kid del header, de modo que
+ * otros servicios verifiquen localmente con las claves publicas de {@code /.well-known/jwks.json};
+ * con {@code jwt.signing.algorithm=HS256} firma con el secreto compartido. Los tokens sin kid
+ * (emitidos con HS256) se siguen verificando con {@code jwt.secret} mientras este configurado.
+ * Los tokens se emiten con {@link FastJwtEncoder}, que produce el mismo formato que el builder
+ * de jjwt sin su costo generico ({@code jwt.fast-path.enabled=false} vuelve al builder).
+ * Las claves y el parser se construyen una unica vez (son inmutables y
+ * seguros para uso concurrente) y los tokens ya verificados se guardan en una
+ * cache acotada, indexada por el hash SHA-256 del token, hasta su expiracion.
+ * Cada token lleva un identificador unico (jti); la revocacion se verifica por jti en
+ * memoria con {@link TokenRevocationStore}, sin guardar el token en la base de datos.
  */
 @Component
 @Slf4j
-public class JwtTokenProvider {
-    
+public class JwtTokenProvider implements MeterBinder {
+
+    /**
+     * Claim con el ID del usuario
+     */
+    public static final String CLAIM_USER_ID = "uid";
+
+    /**
+     * Claim con los roles del usuario, usados para decisiones de autorizacion
+     */
+    public static final String CLAIM_ROLES = "roles";
+
+    /**
+     * Rol requerido para listar, buscar y exportar usuarios
+     */
+    public static final String ROLE_ADMIN = "ADMIN";
+
+    private static final List<String> DEFAULT_ROLES = List.of("USER");
+
+    private static final List<String> ADMIN_ROLES = List.of("USER", ROLE_ADMIN);
+
+    private static final byte[] EMPTY_JWKS = "{\"keys\":[]}".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 no disponible", ex);
+        }
+    });
+
     @Value("${jwt.secret}")
     private String jwtSecret;
-    
+
     @Value("${jwt.expiration}")
     private long jwtExpirationMs;
+
+    @Value("${jwt.signing.algorithm:HS256}")
+    private String signingAlgorithm = "HS256";
+
+    @Value("${jwt.signing.keys-dir:}")
+    private String signingKeysDir = "";
+
+    @Value("${jwt.signing.active-kid:}")
+    private String activeKid = "";
+
+    @Value("${jwt.signing.allow-ephemeral-key:false}")
+    private boolean allowEphemeralKey = false;
+
+    @Value("${jwt.legacy-hmac.enabled:true}")
+    private boolean legacyHmacEnabled = true;
+
+    @Value("${jwt.fast-path.enabled:true}")
+    private boolean fastPathEnabled = true;
+
+    @Value("${jwt.verification-cache.max-size:10000}")
+    private long verificationCacheMaxSize = 10_000;
+
+    @Autowired(required = false)
+    private TokenRevocationStore revocationStore;
+
+    private volatile SigningContext signingContext;
     
+    private volatile Timer signingTimer;
+
+    private volatile Counter expiredCounter;
+
+    private volatile Counter invalidCounter;
+
     /**
-     * Genera la clave secreta para firmar los tokens
+     * Claves, emisor rapido, parser y cache de verificacion, construidos una sola vez.
+     * keyRing es null cuando se firma con HS256; hmacKey es null si no hay secreto configurado.
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private record SigningContext(SecretKey hmacKey, JwtKeyRing keyRing, FastJwtEncoder encoder,
+                                  JwtParser parser, Cache<ByteBuffer, Claims> verifiedTokens) {
     }
-    
+
+    /**
+     * Obtiene el contexto de firma, inicializandolo la primera vez
+     */
+    private SigningContext signingContext() {
+        SigningContext context = signingContext;
+        if (context == null) {
+            synchronized (this) {
+                context = signingContext;
+                if (context == null) {
+                    SecretKey hmacKey = jwtSecret == null || jwtSecret.isBlank()
+                            ? null
+                            : Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+                    JwtKeyRing keyRing = loadKeyRing();
+                    if (keyRing == null && hmacKey == null) {
+                        throw new IllegalStateException("jwt.secret es obligatorio con jwt.signing.algorithm=HS256");
+                    }
+                    JwtParser parser = Jwts.parser().keyLocator(keyLocator(verificationHmacKey(hmacKey, keyRing), keyRing)).build();
+                    Cache<ByteBuffer, Claims> verifiedTokens = Caffeine.newBuilder()
+                            .maximumSize(verificationCacheMaxSize)
+                            .expireAfter(new ClaimsExpiry())
+                            .build();
+                    FastJwtEncoder encoder = keyRing == null
+                            ? FastJwtEncoder.hmac(hmacKey)
+                            : FastJwtEncoder.asymmetric(keyRing.signingKey().kid(), keyRing.signingKey().key(),
+                                    keyRing.signingKey().algorithm());
+                    context = new SigningContext(hmacKey, keyRing, encoder, parser, verifiedTokens);
+                    signingContext = context;
+                }
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Carga las claves al arrancar, para que una configuracion invalida impida iniciar la aplicacion
+     */
+    @PostConstruct
+    void init() {
+        signingContext();
+    }
+
+    private JwtKeyRing loadKeyRing() {
+        if ("HS256".equals(signingAlgorithm.toUpperCase(Locale.ROOT))) {
+            return null;
+        }
+        if (signingKeysDir == null || signingKeysDir.isBlank()) {
+            if (!allowEphemeralKey) {
+                throw new IllegalStateException("jwt.signing.keys-dir es obligatorio con "
+                        + "jwt.signing.allow-ephemeral-key=false: una clave efimera invalida los tokens "
+                        + "de las demas instancias y los emitidos antes de cada reinicio");
+            }
+            JwtKeyRing keyRing = JwtKeyRing.generate(signingAlgorithm);
+            log.warn("jwt.signing.keys-dir no configurado: se genero la clave {} efimera {}, "
+                    + "valida solo para esta instancia", signingAlgorithm, keyRing.signingKey().kid());
+            return keyRing;
+        }
+        JwtKeyRing keyRing = JwtKeyRing.load(Path.of(signingKeysDir), activeKid);
+        log.info("Claves JWT cargadas desde {}: firma con kid {}", signingKeysDir, keyRing.signingKey().kid());
+        return keyRing;
+    }
+
+    /**
+     * Secreto HMAC que verifica tokens sin kid. Con claves asimetricas solo se acepta durante la
+     * ventana de migracion (jwt.legacy-hmac.enabled, activada por defecto), hasta que expiren los
+     * tokens HS256 ya emitidos.
+     */
+    private SecretKey verificationHmacKey(SecretKey hmacKey, JwtKeyRing keyRing) {
+        if (keyRing == null) {
+            return hmacKey;
+        }
+        if (!legacyHmacEnabled || hmacKey == null) {
+            return null;
+        }
+        log.warn("jwt.legacy-hmac.enabled=true: se aceptan tokens HS256 sin kid firmados con jwt.secret; "
+                + "desactivar cuando expiren los tokens emitidos antes de la migracion");
+        return hmacKey;
+    }
+
+    /**
+     * Resuelve la clave de verificacion por el kid del header (busqueda en un mapa inmutable).
+     * Sin kid solo se acepta el secreto HMAC, si esta habilitado; un kid desconocido rechaza el token.
+     */
+    private static Locator<Key> keyLocator(SecretKey hmacKey, JwtKeyRing keyRing) {
+        return header -> {
+            String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+            Key key = kid == null ? hmacKey : keyRing == null ? null : keyRing.verificationKey(kid);
+            if (key == null) {
+                throw new UnsupportedJwtException("Clave de firma desconocida: " + kid);
+            }
+            return key;
+        };
+    }
+
+    /**
+     * JWKS con las claves publicas de verificacion, serializado una sola vez
+     */
+    public byte[] jwks() {
+        JwtKeyRing keyRing = signingContext().keyRing();
+        return keyRing == null ? EMPTY_JWKS : keyRing.jwks();
+    }
+
+    /**
+     * ETag del JWKS actual
+     */
+    public String jwksEtag() {
+        JwtKeyRing keyRing = signingContext().keyRing();
+        return keyRing == null ? "\"empty\"" : keyRing.jwksEtag();
+    }
+
     /**
      * Genera un token JWT para el usuario dado
-     * 
+     *
      * @param email Email del usuario
      * @return Token JWT generado
      */
     public String generateToken(String email) {
+        if (fastPathEnabled) {
+            return encode(email, null, null);
+        }
+        return newTokenBuilder(email).compact();
+    }
+
+    /**
+     * Genera un token JWT con los claims necesarios para autenticar y autorizar
+     * peticiones sin consultar la base de datos (ID y roles del usuario)
+     *
+     * @param user Usuario con su ID ya asignado
+     * @return Token JWT generado
+     */
+    public String generateToken(User user) {
+        return generateToken(user.getId(), user.getEmail(), user.isAdmin());
+    }
+
+    /**
+     * Genera un token JWT con los mismos claims que {@link #generateToken(User)} a partir de
+     * los datos ya conocidos del usuario, sin necesitar la entidad
+     *
+     * @param id ID del usuario (puede ser null)
+     * @param email Email del usuario
+     * @param admin true si el usuario tiene el rol de administrador
+     * @return Token JWT generado
+     */
+    public String generateToken(UUID id, String email, boolean admin) {
+        long start = System.nanoTime();
+        String userId = id != null ? id.toString() : null;
+        List<String> roles = admin ? ADMIN_ROLES : DEFAULT_ROLES;
+        String token;
+        if (fastPathEnabled) {
+            token = encode(email, roles, userId);
+        } else {
+            JwtBuilder builder = newTokenBuilder(email)
+                    .claim(CLAIM_ROLES, roles);
+            if (userId != null) {
+                builder.claim(CLAIM_USER_ID, userId);
+            }
+            token = builder.compact();
+        }
+        Timer timer = signingTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        return token;
+    }
+
+    /**
+     * Camino rapido: mismos claims, en el mismo orden, que {@link #newTokenBuilder(String)}
+     */
+    private String encode(String email, List<String> roles, String userId) {
+        long now = System.currentTimeMillis();
+        return signingContext().encoder().encode(UUID.randomUUID().toString(), email,
+                now / 1000, (now + jwtExpirationMs) / 1000, roles, userId);
+    }
+
+    private JwtBuilder newTokenBuilder(String email) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
-        
-        return Jwts.builder()
+
+        JwtBuilder builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(email)
                 .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+                .expiration(expiryDate);
+        SigningContext context = signingContext();
+        if (context.keyRing() == null) {
+            return builder.signWith(context.hmacKey());
+        }
+        JwtKeyRing.SigningKey signingKey = context.keyRing().signingKey();
+        return builder.header().keyId(signingKey.kid()).and()
+                .signWith(signingKey.key(), signingKey.algorithm());
     }
-    
+
+    /**
+     * Verifica el token y retorna sus claims en una sola pasada.
+     * Los tokens verificados recientemente se resuelven desde la cache sin recalcular el HMAC.
+     *
+     * @param token Token JWT
+     * Un token rechazado es un resultado esperado: se registra en debug y en jwt.rejected.
+     *
+     * @return Claims validados, o vacio si el token es invalido o expiro
+     */
+    public Optional<Claims> parse(String token) {
+        try {
+            return Optional.of(parseClaims(token));
+        } catch (ExpiredJwtException e) {
+            reject(expiredCounter, e);
+        } catch (JwtException | IllegalArgumentException e) {
+            reject(invalidCounter, e);
+        } catch (Exception e) {
+            log.error("Error inesperado validando token JWT: ", e);
+        }
+        return Optional.empty();
+    }
+
+    private static void reject(Counter counter, Exception e) {
+        log.debug("Token JWT rechazado: {}", e.getMessage());
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Revoca el token hasta su expiracion. Solo se revocan tokens validos que tienen jti.
+     *
+     * @param token Token JWT
+     * @return true si el token quedo revocado
+     */
+    public boolean revoke(String token) {
+        Optional<Claims> claims = parse(token);
+        if (claims.isEmpty() || claims.get().getId() == null || revocationStore == null) {
+            return false;
+        }
+        revocationStore.revoke(claims.get().getId(), claims.get().getExpiration().toInstant());
+        return true;
+    }
+
     /**
      * Obtiene el email del usuario desde el token
-     * 
+     *
      * @param token Token JWT
      * @return Email del usuario
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        
-        return claims.getSubject();
+        return parseClaims(token).getSubject();
     }
-    
+
     /**
      * Valida si un token JWT es valido
-     * 
+     *
      * @param token Token JWT a validar
      * @return true si el token es valido, false en caso contrario
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            log.error("Error validando token JWT: {}", e.getMessage());
-            return false;
+        return parse(token).isPresent();
+    }
+
+    /**
+     * Verifica el token (o lo resuelve desde la cache) lanzando excepcion si es invalido o fue revocado
+     */
+    private Claims parseClaims(String token) {
+        SigningContext context = signingContext();
+        ByteBuffer tokenHash = hash(token);
+        Claims claims = context.verifiedTokens().getIfPresent(tokenHash);
+        if (claims == null) {
+            claims = context.parser().parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() != null) {
+                context.verifiedTokens().put(tokenHash, claims);
+            }
+        }
+        if (isRevoked(claims)) {
+            throw new JwtException("Token revocado");
+        }
+        return claims;
+    }
+
+    private boolean isRevoked(Claims claims) {
+        TokenRevocationStore store = revocationStore;
+        return store != null && claims.getId() != null && store.isRevoked(claims.getId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        signingTimer = Timer.builder("jwt.sign")
+                .description("Tiempo de serializacion y firma de un token JWT")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofMillis(100))
+                .register(registry);
+        expiredCounter = rejectedCounter(registry, "expired");
+        invalidCounter = rejectedCounter(registry, "invalid");
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("jwt.rejected")
+                .description("Tokens rechazados al verificar (invalidos, revocados o expirados)")
+                .tag("reason", reason)
+                .register(registry);
+    }
+    
+    /**
+     * Hash del token usado como llave de cache, para no retener tokens utilizables en memoria
+     */
+    private static ByteBuffer hash(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * Expira cada entrada de la cache en el instante de expiracion del token
+     */
+    private static final class ClaimsExpiry implements Expiry<ByteBuffer, Claims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+            long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
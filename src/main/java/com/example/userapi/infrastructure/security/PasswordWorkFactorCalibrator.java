@@ -0,0 +1,97 @@
+package com.example.userapi.infrastructure.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * Calibra el factor de trabajo de los algoritmos de hashing en el arranque.
+ * El presupuesto de latencia es un techo: si el costo configurado lo supera en este nodo, se reduce
+ * hasta el minimo configurado; nunca se sube por encima del costo configurado salvo que se habilite
+ * explicitamente (allowIncrease), para no encarecer el registro y el login donde el hashing ya es el cuello.
+ * Solo se calibran algoritmos que guardan sus parametros dentro del hash (BCrypt, Argon2),
+ * de modo que los hashes existentes siguen verificandose aunque el costo cambie entre reinicios.
+ */
+@Slf4j
+public final class PasswordWorkFactorCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "Calibracion2025";
+
+    private static final int WARM_UP_RUNS = 2;
+
+    private static final int MEASURED_RUNS = 5;
+
+    private PasswordWorkFactorCalibrator() {
+    }
+
+    /**
+     * Calcula el strength de BCrypt: cada incremento duplica el costo, por lo que basta medir
+     * con el strength configurado y estimar los demas
+     */
+    public static int calibrateBcryptStrength(long targetLatencyMs, int minStrength, int configuredStrength,
+                                              int maxStrength, boolean allowIncrease) {
+        long medianNanos = measureMedian(new BCryptPasswordEncoder(configuredStrength));
+        long targetNanos = targetLatencyMs * 1_000_000L;
+        int strength = configuredStrength;
+        long estimatedNanos = medianNanos;
+        while (strength > minStrength && estimatedNanos > targetNanos) {
+            estimatedNanos /= 2;
+            strength--;
+        }
+        while (allowIncrease && strength < maxStrength && estimatedNanos * 2 <= targetNanos) {
+            estimatedNanos *= 2;
+            strength++;
+        }
+        log(String.format("BCrypt: mediana %d ms con strength %d, presupuesto %d ms", medianNanos / 1_000_000L,
+                configuredStrength, targetLatencyMs), "strength", strength, estimatedNanos > targetNanos);
+        return strength;
+    }
+
+    /**
+     * Calcula las iteraciones de Argon2 para la memoria dada: el costo crece linealmente
+     * con las iteraciones
+     */
+    public static int calibrateArgon2Iterations(long targetLatencyMs, int memoryKb, int minIterations,
+                                                int configuredIterations, int maxIterations, boolean allowIncrease) {
+        long medianNanos = measureMedian(new Argon2PasswordEncoder(16, 32, 1, memoryKb, configuredIterations));
+        long targetNanos = targetLatencyMs * 1_000_000L;
+        long affordable = medianNanos == 0
+                ? maxIterations
+                : configuredIterations * targetNanos / medianNanos;
+        int ceiling = allowIncrease ? maxIterations : configuredIterations;
+        int iterations = (int) Math.max(minIterations, Math.min(ceiling, affordable));
+        log(String.format("Argon2: mediana %d ms con %d iteraciones, presupuesto %d ms", medianNanos / 1_000_000L,
+                configuredIterations, targetLatencyMs), "iterations", iterations, affordable < minIterations);
+        return iterations;
+    }
+
+    /**
+     * Mediana de varias mediciones tras un calentamiento, menos sensible que una sola muestra
+     * a las pausas del JIT o del GC durante el arranque
+     */
+    private static long measureMedian(PasswordEncoder encoder) {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            encoder.encode(SAMPLE_PASSWORD);
+        }
+        long[] samples = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[MEASURED_RUNS / 2];
+    }
+
+    private static void log(String measurement, String parameter, int value, boolean overBudgetAtMinimum) {
+        if (overBudgetAtMinimum) {
+            log.warn("Calibracion de hashing {}: el minimo configurado supera el presupuesto, se usa {}={}",
+                    measurement, parameter, value);
+        } else {
+            log.info("Calibracion de hashing {}: {}={}", measurement, parameter, value);
+        }
+    }
+}
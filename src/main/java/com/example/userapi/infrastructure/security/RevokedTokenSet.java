@@ -0,0 +1,67 @@
+package com.example.userapi.infrastructure.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Conjunto en memoria de jti revocados con expiracion por intervalos de tiempo.
+ * La consulta es O(1) sobre un set concurrente; cada jti se agrupa ademas en el intervalo
+ * (bucket) en que expira su token, de modo que el barrido elimina intervalos completos
+ * sin recorrer las entradas vigentes. Un jti se elimina solo despues de su expiracion.
+ */
+public class RevokedTokenSet {
+
+    private final long bucketMillis;
+    private final Set<String> revoked = ConcurrentHashMap.newKeySet();
+    private final ConcurrentSkipListMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+
+    public RevokedTokenSet(Duration bucketSize) {
+        this.bucketMillis = Math.max(1, bucketSize.toMillis());
+    }
+
+    /**
+     * Agrega un jti revocado
+     *
+     * @return true si el jti no estaba revocado
+     */
+    public boolean add(String jti, Instant expiresAt) {
+        // El intervalo se identifica por su fin, para no eliminar el jti antes de que expire
+        long bucket = Math.floorDiv(expiresAt.toEpochMilli(), bucketMillis) + 1;
+        buckets.computeIfAbsent(bucket, key -> ConcurrentHashMap.newKeySet()).add(jti);
+        return revoked.add(jti);
+    }
+
+    public boolean contains(String jti) {
+        return revoked.contains(jti);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * Elimina los intervalos cuyos tokens ya expiraron
+     *
+     * @return Cantidad de jti eliminados
+     */
+    public int sweep(Instant now) {
+        long current = Math.floorDiv(now.toEpochMilli(), bucketMillis);
+        ConcurrentNavigableMap<Long, Set<String>> expired = buckets.headMap(current, true);
+        int removed = 0;
+        for (Map.Entry<Long, Set<String>> bucket : expired.entrySet()) {
+            if (buckets.remove(bucket.getKey(), bucket.getValue())) {
+                for (String jti : bucket.getValue()) {
+                    if (revoked.remove(jti)) {
+                        removed++;
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.userapi.infrastructure.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorator Pattern - Mide el tiempo de calculo de cada hash de contraseña.
+ * Los timers se registran una sola vez al construir el decorador, sin costo por llamada
+ * mas alla de dos lecturas de {@link System#nanoTime()}.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+    
+    static final String TIMER_NAME = "security.password.hash";
+    
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry registry, String algorithm) {
+        this.delegate = delegate;
+        this.encodeTimer = timer(registry, algorithm, "encode");
+        this.matchesTimer = timer(registry, algorithm, "matches");
+    }
+    
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            matchesTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+    
+    private static Timer timer(MeterRegistry registry, String algorithm, String operation) {
+        return Timer.builder(TIMER_NAME)
+                .description("Tiempo de calculo del hash de contraseña")
+                .tag("algorithm", algorithm)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(5))
+                .register(registry);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.userapi.infrastructure.security;
+
+import com.example.userapi.infrastructure.persistence.JpaRevokedTokenRepository;
+import com.example.userapi.infrastructure.persistence.RevokedToken;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Registro de tokens revocados por jti.
+ * La tabla {@code revoked_tokens} (jti, expiracion) es la fuente de verdad y se refleja en un
+ * {@link RevokedTokenSet} en memoria, por lo que la verificacion de revocacion no consulta la
+ * base de datos. Periodicamente se barren las entradas expiradas (en memoria y con un solo DELETE)
+ * y se incorporan las revocaciones hechas por otras instancias: al arrancar se cargan todas las
+ * vigentes y despues solo las registradas desde la sincronizacion anterior ({@code revoked_at}).
+ */
+@Component
+@Profile("!reactive")
+@Slf4j
+public class TokenRevocationStore implements MeterBinder {
+
+    private final JpaRevokedTokenRepository revokedTokenRepository;
+    private final RevokedTokenSet revokedTokens;
+
+    /**
+     * Margen con que se repite la ventana de la sincronizacion anterior, para no perder
+     * revocaciones confirmadas tarde o registradas con un reloj levemente atrasado
+     */
+    @Value("${jwt.revocation.sync-overlap-ms:5000}")
+    private long syncOverlapMillis = 5000;
+
+    /**
+     * Marca de agua: se incorporan las revocaciones con revoked_at posterior. Null hasta la carga completa.
+     */
+    private volatile Instant syncedSince;
+
+    public TokenRevocationStore(JpaRevokedTokenRepository revokedTokenRepository,
+                                @Value("${jwt.revocation.bucket-seconds:60}") long bucketSeconds) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.revokedTokens = new RevokedTokenSet(Duration.ofSeconds(bucketSeconds));
+    }
+
+    /**
+     * Revoca el token con el jti dado hasta su expiracion.
+     * Se registra primero en la base de datos: si el INSERT falla, la revocacion no queda
+     * solo en esta instancia y el error llega al llamador.
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        if (revokedTokens.contains(jti)) {
+            return;
+        }
+        try {
+            revokedTokenRepository.saveAndFlush(new RevokedToken(jti, expiresAt, Instant.now()));
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("Token ya revocado por otra instancia: {}", jti);
+        }
+        revokedTokens.add(jti, expiresAt);
+    }
+
+    /**
+     * Indica si el jti fue revocado, sin consultar la base de datos
+     */
+    public boolean isRevoked(String jti) {
+        return revokedTokens.contains(jti);
+    }
+
+    /**
+     * Carga las revocaciones vigentes una vez que el esquema esta disponible
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        synchronize();
+    }
+
+    /**
+     * Barre las revocaciones expiradas e incorpora las registradas por otras instancias
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:30000}",
+            initialDelayString = "${jwt.revocation.sync-interval-ms:30000}")
+    public void synchronize() {
+        Instant now = Instant.now();
+        try {
+            int swept = revokedTokens.sweep(now);
+            int deleted = revokedTokenRepository.deleteExpired(now);
+            Instant since = syncedSince;
+            List<RevokedToken> tokens = since == null
+                    ? revokedTokenRepository.findActive(now)
+                    : revokedTokenRepository.findRevokedSince(since, now);
+            tokens.forEach(token -> revokedTokens.add(token.getJti(), token.getExpiresAt()));
+            syncedSince = now.minusMillis(syncOverlapMillis);
+            if (swept > 0 || deleted > 0) {
+                log.debug("Revocaciones expiradas eliminadas: {} en memoria, {} en base de datos", swept, deleted);
+            }
+        } catch (RuntimeException ex) {
+            log.error("No se pudo sincronizar la lista de tokens revocados: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jwt.revoked", revokedTokens, RevokedTokenSet::size)
+                .description("Tokens revocados aun no expirados")
+                .register(registry);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.userapi.presentation.cli;
+
+import com.example.userapi.application.usecase.ExportUsersUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Ejecuta la exportacion de usuarios desde la linea de comandos y termina la aplicacion.
+ * Se activa con {@code --users.export.output=/ruta/users.ndjson.gz}; el formato se toma de
+ * {@code users.export.format} y la salida se comprime si el archivo termina en {@code .gz}.
+ * <pre>
+ * java -jar user-registration-api.jar --spring.main.web-application-type=none \
+ *      --users.export.output=/data/users.csv.gz --users.export.format=csv
+ * </pre>
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "users.export.output")
+@Slf4j
+public class UserExportRunner implements ApplicationRunner {
+
+    private final ExportUsersUseCase exportUsersUseCase;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${users.export.output}")
+    private String output;
+
+    @Value("${users.export.format:ndjson}")
+    private String format;
+
+    @Value("${users.export.exit-on-completion:true}")
+    private boolean exitOnCompletion;
+
+    public UserExportRunner(ExportUsersUseCase exportUsersUseCase, ConfigurableApplicationContext context) {
+        this.exportUsersUseCase = exportUsersUseCase;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        ExportUsersUseCase.Format exportFormat = ExportUsersUseCase.Format.from(format);
+        Path target = Path.of(output);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        log.info("Exportando usuarios en formato {} a {}", exportFormat, target);
+
+        // Se escribe a un archivo temporal y se renombra al terminar, para no dejar exportaciones parciales
+        try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temporary), 64 * 1024)) {
+            if (output.endsWith(".gz")) {
+                GZIPOutputStream compressed = new GZIPOutputStream(file, 64 * 1024);
+                exportUsersUseCase.execute(exportFormat, compressed);
+                compressed.finish();
+            } else {
+                exportUsersUseCase.execute(exportFormat, file);
+            }
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+
+        if (exitOnCompletion) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.userapi.presentation.controller;
+
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * Controller Pattern - Publica las claves publicas de verificacion de tokens (JWKS).
+ * Gateways y otros servicios verifican los tokens localmente con estas claves, sin llamar a la API.
+ * El cuerpo se sirve tal cual desde el arreglo serializado por {@link JwtTokenProvider}, con ETag
+ * para que los clientes revaliden con 304. Se registra tanto en la aplicacion servlet como en la reactiva.
+ */
+@RestController
+@Tag(name = "Claves", description = "Claves publicas para verificar tokens JWT")
+public class JwksController {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtTokenProvider jwtTokenProvider,
+                          @Value("${jwt.jwks.max-age-seconds:300}") long maxAgeSeconds) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    /**
+     * Endpoint con el conjunto de claves publicas (RFC 7517)
+     */
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Claves publicas JWKS",
+        description = "Claves publicas con que se verifican los tokens, identificadas por el kid del header"
+    )
+    public ResponseEntity<byte[]> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(jwtTokenProvider.jwksEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jwtTokenProvider.jwks());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.userapi.presentation.controller;
+
+import com.example.userapi.application.dto.RegisterUserRequest;
+import com.example.userapi.application.dto.UserResponse;
+import com.example.userapi.application.usecase.ReactiveRegisterUserUseCase;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controller Pattern - Controlador WebFlux del perfil {@code reactive}.
+ * Expone el mismo contrato de {@code POST /api/users/register} que {@link UserController};
+ * los errores se traducen con el mismo GlobalExceptionHandler.
+ */
+@RestController
+@RequestMapping("/api/users")
+@Profile("reactive")
+public class ReactiveUserController {
+    
+    private final ReactiveRegisterUserUseCase reactiveRegisterUserUseCase;
+    
+    public ReactiveUserController(ReactiveRegisterUserUseCase reactiveRegisterUserUseCase) {
+        this.reactiveRegisterUserUseCase = reactiveRegisterUserUseCase;
+    }
+    
+    /**
+     * Endpoint para registrar un nuevo usuario sin bloquear el event loop
+     * 
+     * @param request Datos del usuario a registrar
+     * @return UserResponse con los datos del usuario registrado
+     */
+    @PostMapping(
+        value = "/register",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<ResponseEntity<UserResponse>> registerUser(@Valid @RequestBody RegisterUserRequest request) {
+        return reactiveRegisterUserUseCase.execute(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+}
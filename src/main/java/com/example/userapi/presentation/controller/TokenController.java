@@ -0,0 +1,90 @@
+package com.example.userapi.presentation.controller;
+
+import com.example.userapi.application.dto.ErrorResponse;
+import com.example.userapi.application.dto.IntrospectTokensRequest;
+import com.example.userapi.application.dto.IntrospectTokensResponse;
+import com.example.userapi.application.usecase.IntrospectTokensUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller Pattern - Controlador REST para la verificacion de tokens por parte de gateways.
+ * Requiere las credenciales del cliente gateway ({@code ClientCredentials}). Solo se registra en la aplicacion servlet.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/tokens")
+@Slf4j
+@Tag(name = "Tokens", description = "Verificacion de tokens JWT")
+public class TokenController {
+
+    private final IntrospectTokensUseCase introspectTokensUseCase;
+
+    public TokenController(IntrospectTokensUseCase introspectTokensUseCase) {
+        this.introspectTokensUseCase = introspectTokensUseCase;
+    }
+
+    /**
+     * Endpoint para verificar un lote de tokens en una sola peticion
+     *
+     * @param request Tokens a verificar
+     * @return IntrospectTokensResponse con el resultado de cada token, en el mismo orden
+     */
+    @PostMapping(
+        value = "/introspect",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+        summary = "Introspeccion de tokens por lotes",
+        description = "Indica por cada token si esta activo (firma valida, no expirado ni revocado), "
+            + "con su subject y expiracion. Los tokens repetidos se verifican una sola vez"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lote verificado; cada token trae su propio resultado",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = IntrospectTokensResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Lote vacio o que excede el tamaño maximo",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Faltan las credenciales del cliente gateway o son invalidas"
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Pool de verificacion saturado, reintentar mas tarde",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<IntrospectTokensResponse> introspect(@Valid @RequestBody IntrospectTokensRequest request) {
+        log.debug("Recibida peticion de introspeccion de {} tokens", request.getTokens().size());
+        return ResponseEntity.ok(introspectTokensUseCase.execute(request.getTokens()));
+    }
+}
@@ -1,44 +1,109 @@
 package com.example.userapi.presentation.controller;
 
+import com.example.userapi.application.dto.BatchRegisterResponse;
 import com.example.userapi.application.dto.ErrorResponse;
+import com.example.userapi.application.dto.LoginRequest;
 import com.example.userapi.application.dto.RegisterUserRequest;
+import com.example.userapi.application.dto.UserPageResponse;
 import com.example.userapi.application.dto.UserResponse;
+import com.example.userapi.application.usecase.ExportUsersUseCase;
+import com.example.userapi.application.usecase.IdempotentRegisterUserUseCase;
+import com.example.userapi.application.usecase.ListUsersUseCase;
+import com.example.userapi.application.usecase.LoginUserUseCase;
+import com.example.userapi.application.usecase.LogoutUserUseCase;
 import com.example.userapi.application.usecase.RegisterUserUseCase;
+import com.example.userapi.application.usecase.RegisterUsersBatchUseCase;
+import com.example.userapi.domain.exception.BatchTooLargeException;
+import com.example.userapi.domain.exception.ValidationException;
+import com.example.userapi.infrastructure.logging.LogMasking;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controller Pattern - Controlador REST para operaciones de usuarios.
  * Capa de presentacion que expone los endpoints de la API.
+ * Solo se registra en la aplicacion servlet; el perfil {@code reactive} usa {@link ReactiveUserController}.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/users")
 @Slf4j
 @Tag(name = "Usuarios", description = "API de gestion de usuarios")
 public class UserController {
     
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String BEARER_PREFIX = "Bearer ";
+    
     private final RegisterUserUseCase registerUserUseCase;
+    private final IdempotentRegisterUserUseCase idempotentRegisterUserUseCase;
+    private final RegisterUsersBatchUseCase registerUsersBatchUseCase;
+    private final ListUsersUseCase listUsersUseCase;
+    private final ExportUsersUseCase exportUsersUseCase;
+    private final LoginUserUseCase loginUserUseCase;
+    private final LogoutUserUseCase logoutUserUseCase;
+    private final ObjectMapper objectMapper;
+    private final int maxBatchSize;
 
-    public UserController(RegisterUserUseCase registerUserUseCase) {
+    public UserController(RegisterUserUseCase registerUserUseCase,
+                          IdempotentRegisterUserUseCase idempotentRegisterUserUseCase,
+                          RegisterUsersBatchUseCase registerUsersBatchUseCase,
+                          ListUsersUseCase listUsersUseCase,
+                          ExportUsersUseCase exportUsersUseCase,
+                          LoginUserUseCase loginUserUseCase,
+                          LogoutUserUseCase logoutUserUseCase,
+                          ObjectMapper objectMapper,
+                          @Value("${registration.batch.max-size:10000}") int maxBatchSize) {
         this.registerUserUseCase = registerUserUseCase;
+        this.idempotentRegisterUserUseCase = idempotentRegisterUserUseCase;
+        this.registerUsersBatchUseCase = registerUsersBatchUseCase;
+        this.listUsersUseCase = listUsersUseCase;
+        this.exportUsersUseCase = exportUsersUseCase;
+        this.loginUserUseCase = loginUserUseCase;
+        this.logoutUserUseCase = logoutUserUseCase;
+        this.objectMapper = objectMapper;
+        this.maxBatchSize = maxBatchSize;
     }
 
     /**
-     * Endpoint para registrar un nuevo usuario
+     * Endpoint para registrar un nuevo usuario.
+     * Con la cabecera Idempotency-Key, los reintentos reciben la respuesta original.
      * 
+     * @param idempotencyKey Llave de idempotencia (opcional)
      * @param request Datos del usuario a registrar
      * @return UserResponse con los datos del usuario registrado
      */
@@ -49,7 +114,9 @@ public class UserController {
     )
     @Operation(
         summary = "Registrar nuevo usuario",
-        description = "Crea un nuevo usuario en el sistema y retorna su información con un token JWT"
+        description = "Crea un nuevo usuario en el sistema y retorna su información con un token JWT. "
+                + "Con Idempotency-Key, un reintento con la misma peticion retorna la respuesta original "
+                + "(cabecera Idempotent-Replayed: true)"
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -76,6 +143,14 @@ public class UserController {
                 schema = @Schema(implementation = ErrorResponse.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Idempotency-Key reutilizada con una peticion distinta",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
         @ApiResponse(
             responseCode = "500",
             description = "Error interno del servidor",
@@ -83,19 +158,362 @@ public class UserController {
                 mediaType = "application/json",
                 schema = @Schema(implementation = ErrorResponse.class)
             )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Servicio saturado, reintentar mas tarde",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
         )
     })
     public ResponseEntity<UserResponse> registerUser(
+            @Parameter(description = "Llave unica por intento de registro, reutilizada en los reintentos")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody RegisterUserRequest request) {
         
-        log.info("Recibida peticion de registro para email: {}", request.getEmail());
+        log.debug("Recibida peticion de registro para email: {}", LogMasking.email(request.getEmail()));
+        
+        if (idempotencyKey != null) {
+            IdempotentRegisterUserUseCase.Result result = idempotentRegisterUserUseCase.execute(idempotencyKey, request);
+            return ResponseEntity
+                    .status(HttpStatus.CREATED)
+                    .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                    .body(result.response());
+        }
         
         UserResponse response = registerUserUseCase.execute(request);
         
-        log.info("Usuario registrado exitosamente con ID: {}", response.getId());
+        log.debug("Usuario registrado exitosamente con ID: {}", response.getId());
         
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(response);
     }
+    
+    /**
+     * Endpoint para iniciar sesion
+     * 
+     * @param request Credenciales del usuario
+     * @return UserResponse con los datos del usuario y un token JWT nuevo
+     */
+    @PostMapping(
+        value = "/login",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+        summary = "Iniciar sesion",
+        description = "Verifica email y contraseña y retorna la información del usuario con un token JWT nuevo"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Inicio de sesion exitoso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = UserResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Datos de entrada invalidos",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Usuario o contraseña invalidos",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Servicio saturado, reintentar mas tarde",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<UserResponse> login(@Valid @RequestBody LoginRequest request) {
+        
+        log.debug("Recibida peticion de inicio de sesion para email: {}", LogMasking.email(request.getEmail()));
+        
+        return ResponseEntity.ok(loginUserUseCase.execute(request));
+    }
+    
+    /**
+     * Endpoint para cerrar sesion, revocando el token con que se autentica la peticion
+     * 
+     * @param authorization Cabecera Authorization con el Bearer token
+     */
+    @PostMapping("/logout")
+    @Operation(
+        summary = "Cerrar sesion",
+        description = "Revoca el Bearer token de la peticion hasta su expiracion; los usos posteriores responden 401"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Token revocado"),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Token ausente, invalido o ya revocado",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        
+        String token = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? authorization.substring(BEARER_PREFIX.length()).trim()
+                : null;
+        logoutUserUseCase.execute(token);
+        
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Endpoint para registrar un lote de usuarios enviado como arreglo JSON.
+     * Los elementos del arreglo se leen de a uno, igual que en NDJSON, y el lote se rechaza (413)
+     * apenas excede el tamaño maximo, sin deserializar el resto del cuerpo.
+     * 
+     * @param body Cuerpo de la peticion con el arreglo de RegisterUserRequest
+     * @return BatchRegisterResponse con el resultado de cada elemento
+     */
+    @PostMapping(
+        value = "/register/batch",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+        summary = "Registrar usuarios por lotes",
+        description = "Registra un arreglo de usuarios y retorna el resultado de cada elemento. "
+                + "Los elementos invalidos o duplicados no impiden el registro del resto"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lote procesado, ver el estado de cada elemento",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = BatchRegisterResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Lote vacio o cuerpo invalido",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "413",
+            description = "El lote excede el tamaño maximo",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<BatchRegisterResponse> registerUsersBatch(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+                    mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = RegisterUserRequest.class))))
+            InputStream body) {
+        List<RegisterUserRequest> requests = readBatch(body, "El cuerpo JSON es invalido");
+        
+        log.info("Recibida peticion de registro por lotes con {} elementos", requests.size());
+        
+        return ResponseEntity.ok(registerUsersBatchUseCase.execute(requests));
+    }
+    
+    /**
+     * Endpoint para registrar un lote de usuarios enviado como NDJSON
+     * (un RegisterUserRequest por linea). Las lineas se leen de a una y el lote se rechaza (413)
+     * apenas excede el tamaño maximo, sin leer el resto del cuerpo.
+     * 
+     * @param body Cuerpo de la peticion en formato NDJSON
+     * @return BatchRegisterResponse con el resultado de cada elemento
+     */
+    @PostMapping(
+        value = "/register/batch",
+        consumes = APPLICATION_NDJSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+        summary = "Registrar usuarios por lotes (NDJSON)",
+        description = "Igual que el registro por lotes, pero recibe un RegisterUserRequest por linea"
+    )
+    public ResponseEntity<BatchRegisterResponse> registerUsersBatchNdjson(InputStream body) {
+        List<RegisterUserRequest> requests = readBatch(body, "El cuerpo NDJSON es invalido");
+        
+        log.info("Recibida peticion de registro por lotes NDJSON con {} elementos", requests.size());
+        
+        return ResponseEntity.ok(registerUsersBatchUseCase.execute(requests));
+    }
+    
+    /**
+     * Lee los elementos del lote de a uno, contandolos mientras se leen: un arreglo JSON en la raiz
+     * se recorre elemento por elemento y NDJSON valor por valor, sin cargar el cuerpo completo
+     * 
+     * @throws BatchTooLargeException apenas el lote excede el tamaño maximo
+     */
+    private List<RegisterUserRequest> readBatch(InputStream body, String invalidBodyMessage) {
+        List<RegisterUserRequest> requests = new ArrayList<>();
+        try (MappingIterator<RegisterUserRequest> iterator =
+                     objectMapper.readerFor(RegisterUserRequest.class).readValues(body)) {
+            while (iterator.hasNextValue()) {
+                if (requests.size() == maxBatchSize) {
+                    throw new BatchTooLargeException(maxBatchSize);
+                }
+                requests.add(iterator.nextValue());
+            }
+        } catch (IOException | RuntimeJsonMappingException ex) {
+            throw new ValidationException(invalidBodyMessage);
+        }
+        return requests;
+    }
+    
+    /**
+     * Endpoint para listar y buscar usuarios con paginacion por cursor
+     * 
+     * @return UserPageResponse con la pagina de usuarios y el cursor siguiente
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Listar usuarios",
+        description = "Lista usuarios ordenados por fecha de creacion e ID, paginando por cursor (keyset). "
+                + "No incluye contraseña ni token"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Pagina de usuarios",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = UserPageResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor o tamaño de pagina invalido",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<UserPageResponse> listUsers(
+            @Parameter(description = "Filtra por estado del usuario")
+            @RequestParam(value = "isactive", required = false) Boolean isactive,
+            @Parameter(description = "Filtra por prefijo del email")
+            @RequestParam(value = "email_prefix", required = false) String emailPrefix,
+            @Parameter(description = "Fecha de creacion minima (inclusiva)", example = "2025-11-01T00:00:00")
+            @RequestParam(value = "created_from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Fecha de creacion maxima (exclusiva)", example = "2025-12-01T00:00:00")
+            @RequestParam(value = "created_to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "Cursor retornado en next_cursor por la pagina anterior")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Tamaño de la pagina")
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        
+        return ResponseEntity.ok(
+                listUsersUseCase.execute(isactive, emailPrefix, createdFrom, createdTo, cursor, limit));
+    }
+    
+    /**
+     * Endpoint para buscar usuarios por telefono
+     */
+    @GetMapping(value = "/by-phone", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Buscar usuarios por telefono",
+        description = "Retorna los usuarios que tienen registrado el telefono (contrycode, citycode, number). "
+                + "No incluye contraseña ni token"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Usuarios con el telefono indicado",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = UserPageResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Faltan parametros del telefono",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<UserPageResponse> findUsersByPhone(
+            @Parameter(description = "Codigo de pais", example = "57")
+            @RequestParam(value = "contrycode", required = false) String contrycode,
+            @Parameter(description = "Codigo de ciudad", example = "1")
+            @RequestParam(value = "citycode", required = false) String citycode,
+            @Parameter(description = "Numero de telefono", example = "1234567")
+            @RequestParam(value = "number", required = false) String number) {
+        
+        return ResponseEntity.ok(listUsersUseCase.findByPhone(contrycode, citycode, number));
+    }
+    
+    /**
+     * Endpoint para exportar todos los usuarios en NDJSON o CSV.
+     * La respuesta se escribe a medida que se leen los usuarios, con memoria constante.
+     * 
+     * @return Flujo con la exportacion, opcionalmente comprimido con gzip
+     */
+    @GetMapping("/export")
+    @Operation(
+        summary = "Exportar usuarios",
+        description = "Exporta todos los usuarios en NDJSON o CSV, sin contraseña ni token. "
+                + "Con gzip=true la respuesta se entrega comprimida como archivo .gz"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exportacion de usuarios"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Formato de exportacion no soportado",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @Parameter(description = "Formato de salida: ndjson o csv")
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @Parameter(description = "Comprime la salida con gzip")
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        
+        ExportUsersUseCase.Format exportFormat = ExportUsersUseCase.Format.from(format);
+        String filename = "users." + exportFormat.extension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = output -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(output, 64 * 1024);
+                exportUsersUseCase.execute(exportFormat, compressed);
+                compressed.finish();
+            } else {
+                exportUsersUseCase.execute(exportFormat, output);
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
 }
@@ -1,25 +1,44 @@
 package com.example.userapi.presentation.exception;
 
 import com.example.userapi.application.dto.ErrorResponse;
+import com.example.userapi.domain.exception.BatchTooLargeException;
 import com.example.userapi.domain.exception.BusinessException;
+import com.example.userapi.domain.exception.IdempotencyConflictException;
+import com.example.userapi.domain.exception.InvalidCredentialsException;
+import com.example.userapi.domain.exception.ServiceOverloadedException;
 import com.example.userapi.domain.exception.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import java.util.stream.Collectors;
 
 /**
  * Strategy Pattern - Manejador global de excepciones.
  * Centraliza el manejo de errores y asegura respuestas consistentes.
+ * Cuenta cada resultado en el contador api.errors (outcome, status), registrado de antemano.
  */
 @RestControllerAdvice
 @Slf4j
-public class GlobalExceptionHandler {
+public class GlobalExceptionHandler implements MeterBinder {
+    
+    private volatile Counter validationErrors;
+    private volatile Counter batchTooLargeErrors;
+    private volatile Counter businessErrors;
+    private volatile Counter overloadedErrors;
+    private volatile Counter idempotencyConflictErrors;
+    private volatile Counter invalidCredentialsErrors;
+    private volatile Counter badRequestErrors;
+    private volatile Counter internalErrors;
     
     /**
      * Maneja excepciones de validación del dominio
@@ -27,6 +46,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(ValidationException ex) {
         log.warn("Error de validacion: {}", ex.getMessage());
+        increment(validationErrors);
         ErrorResponse error = ErrorResponse.builder()
                 .mensaje(ex.getMessage())
                 .build();
@@ -35,12 +55,28 @@ public class GlobalExceptionHandler {
                 .body(error);
     }
     
+    /**
+     * Maneja los lotes que exceden el tamaño maximo, rechazados mientras se leen
+     */
+    @ExceptionHandler(BatchTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleBatchTooLargeException(BatchTooLargeException ex) {
+        log.warn("Lote rechazado: {}", ex.getMessage());
+        increment(batchTooLargeErrors);
+        ErrorResponse error = ErrorResponse.builder()
+                .mensaje(ex.getMessage())
+                .build();
+        return ResponseEntity
+                .status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(error);
+    }
+    
     /**
      * Maneja excepciones de logica de negocio
      */
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex) {
         log.warn("Error de negocio: {}", ex.getMessage());
+        increment(businessErrors);
         ErrorResponse error = ErrorResponse.builder()
                 .mensaje(ex.getMessage())
                 .build();
@@ -49,6 +85,52 @@ public class GlobalExceptionHandler {
                 .body(error);
     }
     
+    /**
+     * Maneja la reutilizacion de una Idempotency-Key con una peticion distinta
+     */
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyConflictException(IdempotencyConflictException ex) {
+        log.warn("Conflicto de idempotencia: {}", ex.getMessage());
+        increment(idempotencyConflictErrors);
+        ErrorResponse error = ErrorResponse.builder()
+                .mensaje(ex.getMessage())
+                .build();
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(error);
+    }
+    
+    /**
+     * Maneja un inicio de sesion con credenciales invalidas
+     */
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCredentialsException(InvalidCredentialsException ex) {
+        log.debug("Inicio de sesion rechazado: {}", ex.getMessage());
+        increment(invalidCredentialsErrors);
+        ErrorResponse error = ErrorResponse.builder()
+                .mensaje(ex.getMessage())
+                .build();
+        return ResponseEntity
+                .status(HttpStatus.UNAUTHORIZED)
+                .body(error);
+    }
+    
+    /**
+     * Maneja el rechazo por saturacion de recursos acotados (backpressure)
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloadedException(ServiceOverloadedException ex) {
+        log.warn("Servicio saturado: {}", ex.getMessage());
+        increment(overloadedErrors);
+        ErrorResponse error = ErrorResponse.builder()
+                .mensaje(ex.getMessage())
+                .build();
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+    
     /**
      * Maneja errores de validacion de Bean Validation (@Valid)
      */
@@ -61,6 +143,29 @@ public class GlobalExceptionHandler {
                 .collect(Collectors.joining(", "));
         
         log.warn("Error de validacion de request: {}", errorMessage);
+        increment(badRequestErrors);
+        
+        ErrorResponse error = ErrorResponse.builder()
+                .mensaje(errorMessage)
+                .build();
+        
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(error);
+    }
+    
+    /**
+     * Maneja errores de Bean Validation (@Valid) en el perfil reactivo (WebFlux)
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleWebExchangeBindException(WebExchangeBindException ex) {
+        
+        String errorMessage = ex.getBindingResult().getFieldErrors().stream()
+                .map(FieldError::getDefaultMessage)
+                .collect(Collectors.joining(", "));
+        
+        log.warn("Error de validacion de request: {}", errorMessage);
+        increment(badRequestErrors);
         
         ErrorResponse error = ErrorResponse.builder()
                 .mensaje(errorMessage)
@@ -77,6 +182,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         log.error("Error interno del servidor: ", ex);
+        increment(internalErrors);
         ErrorResponse error = ErrorResponse.builder()
                 .mensaje("Error interno del servidor")
                 .build();
@@ -84,4 +190,30 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(error);
     }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        validationErrors = errorCounter(registry, "validation", HttpStatus.BAD_REQUEST);
+        batchTooLargeErrors = errorCounter(registry, "batch_too_large", HttpStatus.PAYLOAD_TOO_LARGE);
+        businessErrors = errorCounter(registry, "business", HttpStatus.CONFLICT);
+        overloadedErrors = errorCounter(registry, "overloaded", HttpStatus.SERVICE_UNAVAILABLE);
+        idempotencyConflictErrors = errorCounter(registry, "idempotency_conflict", HttpStatus.UNPROCESSABLE_ENTITY);
+        invalidCredentialsErrors = errorCounter(registry, "invalid_credentials", HttpStatus.UNAUTHORIZED);
+        badRequestErrors = errorCounter(registry, "bad_request", HttpStatus.BAD_REQUEST);
+        internalErrors = errorCounter(registry, "internal", HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+    
+    private static Counter errorCounter(MeterRegistry registry, String outcome, HttpStatus status) {
+        return Counter.builder("api.errors")
+                .description("Respuestas de error por tipo de resultado")
+                .tag("outcome", outcome)
+                .tag("status", String.valueOf(status.value()))
+                .register(registry);
+    }
+    
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
 }
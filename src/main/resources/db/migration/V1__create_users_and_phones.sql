@@ -0,0 +1,33 @@
+-- ========================================
+-- Esquema inicial (administrado por Flyway)
+-- ========================================
+
+-- Tabla de Usuarios
+-- El ID (UUID) se asigna en la aplicacion; la restriccion UNIQUE ya crea el indice por email
+CREATE TABLE users (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    token TEXT,
+    created TIMESTAMP(6) NOT NULL,
+    modified TIMESTAMP(6) NOT NULL,
+    last_login TIMESTAMP(6) NOT NULL,
+    isactive BOOLEAN NOT NULL DEFAULT TRUE,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+-- Indice para el listado paginado por cursor (order by created, id)
+CREATE INDEX idx_users_created_id ON users (created, id);
+
+-- Tabla de Telefonos (coleccion de valores del usuario)
+CREATE TABLE phones (
+    user_id UUID NOT NULL,
+    number VARCHAR(255),
+    citycode VARCHAR(255),
+    contrycode VARCHAR(255),
+    CONSTRAINT fk_phones_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+-- Indice para cargar los telefonos de un usuario
+CREATE INDEX idx_phones_user_id ON phones (user_id);
@@ -0,0 +1,15 @@
+-- ========================================
+-- Revocacion de tokens por jti
+-- ========================================
+
+-- El token ya no se persiste con el usuario: solo se registran los revocados
+ALTER TABLE users DROP COLUMN token;
+
+-- Tokens revocados hasta su expiracion; las filas expiradas se eliminan periodicamente
+CREATE TABLE revoked_tokens (
+    jti VARCHAR(36) NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_revoked_tokens PRIMARY KEY (jti)
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
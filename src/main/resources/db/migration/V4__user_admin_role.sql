@@ -0,0 +1,7 @@
+-- ========================================
+-- Rol de administrador
+-- ========================================
+
+-- Solo se asigna por fuera de la API (UPDATE users SET admin = TRUE WHERE email = ...);
+-- el registro publico siempre crea usuarios sin este rol
+ALTER TABLE users ADD COLUMN admin BOOLEAN DEFAULT FALSE NOT NULL;
@@ -0,0 +1,9 @@
+-- ========================================
+-- Sincronizacion incremental de revocaciones
+-- ========================================
+
+-- Momento de la revocacion: cada instancia incorpora solo las filas posteriores a su ultima sincronizacion.
+-- Las filas existentes toman la fecha de la migracion y se cargan en el arranque como vigentes
+ALTER TABLE revoked_tokens ADD COLUMN revoked_at TIMESTAMP(6) WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL;
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
@@ -0,0 +1,107 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.mapper.UserMapper;
+import com.example.userapi.domain.exception.ValidationException;
+import com.example.userapi.domain.model.Phone;
+import com.example.userapi.domain.model.UserSummary;
+import com.example.userapi.domain.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportUsersUseCase - Tests de Exportacion")
+class ExportUsersUseCaseTest {
+    
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 11, 10, 10, 30);
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    private ObjectMapper objectMapper;
+    private ExportUsersUseCase exportUsersUseCase;
+    
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        exportUsersUseCase = new ExportUsersUseCase(userRepository, UserMapper.builder().build(), objectMapper);
+    }
+    
+    private void givenTwoUsers() {
+        List<UserSummary> users = List.of(
+                new UserSummary(UUID.fromString("00000000-0000-0000-0000-000000000001"), "Jorge Marquez",
+                        "jorge@marquez.org", List.of(new Phone("1234567", "1", "57")),
+                        CREATED, CREATED, CREATED, true),
+                new UserSummary(UUID.fromString("00000000-0000-0000-0000-000000000002"), "Perez, \"Ana\"",
+                        "ana@perez.org", List.of(), CREATED, CREATED, CREATED, false));
+        when(userRepository.forEachUser(any())).thenAnswer(invocation -> {
+            Consumer<UserSummary> consumer = invocation.getArgument(0);
+            users.forEach(consumer);
+            return (long) users.size();
+        });
+    }
+    
+    @Test
+    @DisplayName("Debería exportar un objeto JSON por linea sin contraseña ni token")
+    void shouldExportNdjson() throws Exception {
+        // Given
+        givenTwoUsers();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // When
+        long exported = exportUsersUseCase.execute(ExportUsersUseCase.Format.NDJSON, output);
+        
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("jorge@marquez.org", first.get("email").asText());
+        assertEquals("57", first.get("phones").get(0).get("contrycode").asText());
+        assertFalse(first.has("password"));
+        assertFalse(first.has("token"));
+    }
+    
+    @Test
+    @DisplayName("Debería exportar CSV con encabezado y campos escapados")
+    void shouldExportCsv() throws Exception {
+        // Given
+        givenTwoUsers();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // When
+        exportUsersUseCase.execute(ExportUsersUseCase.Format.CSV, output);
+        
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,name,email,phones,created,modified,last_login,isactive", lines[0]);
+        assertEquals("00000000-0000-0000-0000-000000000001,Jorge Marquez,jorge@marquez.org,57-1-1234567,"
+                + "2025-11-10T10:30:00,2025-11-10T10:30:00,2025-11-10T10:30:00,true", lines[1]);
+        assertTrue(lines[2].startsWith("00000000-0000-0000-0000-000000000002,\"Perez, \"\"Ana\"\"\",ana@perez.org,,"));
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar formatos no soportados")
+    void shouldRejectUnknownFormat() {
+        assertEquals(ExportUsersUseCase.Format.CSV, ExportUsersUseCase.Format.from("CSV"));
+        assertThrows(ValidationException.class, () -> ExportUsersUseCase.Format.from("xml"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.dto.RegisterUserRequest;
+import com.example.userapi.application.dto.UserResponse;
+import com.example.userapi.infrastructure.idempotency.IdempotencyStore;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotentRegisterUserUseCase - Tests de Caso de Uso")
+class IdempotentRegisterUserUseCaseTest {
+    
+    @Mock
+    private RegisterUserUseCase registerUserUseCase;
+    
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    
+    private IdempotencyStore idempotencyStore;
+    
+    private IdempotentRegisterUserUseCase useCase;
+    
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = spy(new IdempotencyStore(100, 60, 5000));
+        useCase = new IdempotentRegisterUserUseCase(registerUserUseCase, idempotencyStore, jwtTokenProvider,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+    
+    @Test
+    @DisplayName("Debería guardar la respuesta sin token y emitir uno nuevo en cada reproduccion sin consultar la base de datos")
+    void shouldNotStoreTokenAndReissueOnReplay() {
+        // Given
+        RegisterUserRequest request = RegisterUserRequest.builder()
+                .name("Juan Rodriguez")
+                .email("juan@rodriguez.org")
+                .password("Hunter22")
+                .phones(new ArrayList<>())
+                .build();
+        UUID userId = UUID.randomUUID();
+        when(registerUserUseCase.execute(request)).thenReturn(UserResponse.builder()
+                .id(userId)
+                .email(request.getEmail())
+                .token("original.jwt.token")
+                .build());
+        when(jwtTokenProvider.generateToken(userId, request.getEmail(), false)).thenReturn("fresh.jwt.token");
+        AtomicReference<byte[]> stored = new AtomicReference<>();
+        doAnswer(invocation -> {
+            IdempotencyStore.Outcome outcome = (IdempotencyStore.Outcome) invocation.callRealMethod();
+            stored.set(outcome.body());
+            return outcome;
+        }).when(idempotencyStore).execute(any(), any(), any());
+        
+        // When
+        IdempotentRegisterUserUseCase.Result first = useCase.execute("key-1", request);
+        IdempotentRegisterUserUseCase.Result replay = useCase.execute("key-1", request);
+        
+        // Then
+        assertFalse(first.replayed());
+        assertEquals("original.jwt.token", first.response().getToken());
+        assertTrue(replay.replayed());
+        assertEquals("fresh.jwt.token", replay.response().getToken());
+        assertEquals(userId, replay.response().getId());
+        assertFalse(new String(stored.get(), StandardCharsets.UTF_8).contains("original.jwt.token"));
+        verify(registerUserUseCase, times(1)).execute(request);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.dto.IntrospectTokensResponse;
+import com.example.userapi.application.dto.TokenIntrospectionResult;
+import com.example.userapi.domain.exception.ValidationException;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IntrospectTokensUseCase - Tests de Introspeccion por Lotes")
+class IntrospectTokensUseCaseTest {
+    
+    private static final Date EXPIRATION = new Date(1_760_086_400_000L);
+    
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    
+    private IntrospectTokensUseCase introspectTokensUseCase;
+    
+    @BeforeEach
+    void setUp() {
+        introspectTokensUseCase = new IntrospectTokensUseCase(jwtTokenProvider, 200, 4, 4, 64, 2000);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        introspectTokensUseCase.shutdown();
+    }
+    
+    @Test
+    @DisplayName("Deberia reportar cada token en orden y verificar una sola vez los repetidos")
+    void shouldIntrospectInOrderAndVerifyRepeatedTokensOnce() {
+        // Given
+        when(jwtTokenProvider.parse("token.ana")).thenReturn(Optional.of(claims("ana@correo.org")));
+        when(jwtTokenProvider.parse("token.invalido")).thenReturn(Optional.empty());
+        
+        // When
+        IntrospectTokensResponse response = introspectTokensUseCase.execute(
+                Arrays.asList("token.ana", "token.invalido", "token.ana", null, ""));
+        
+        // Then
+        assertEquals(5, response.getTotal());
+        assertEquals(2, response.getActive());
+        List<TokenIntrospectionResult> results = response.getResults();
+        assertEquals(List.of(0, 1, 2, 3, 4), results.stream().map(TokenIntrospectionResult::getIndex).toList());
+        assertTrue(results.get(0).isActive());
+        assertEquals("ana@correo.org", results.get(0).getSub());
+        assertEquals(1_760_086_400L, results.get(0).getExp());
+        assertFalse(results.get(1).isActive());
+        assertNull(results.get(1).getSub());
+        assertTrue(results.get(2).isActive());
+        assertFalse(results.get(3).isActive());
+        assertFalse(results.get(4).isActive());
+        verify(jwtTokenProvider, times(1)).parse("token.ana");
+        verify(jwtTokenProvider, times(1)).parse("token.invalido");
+        verifyNoMoreInteractions(jwtTokenProvider);
+    }
+    
+    @Test
+    @DisplayName("Deberia verificar los lotes grandes en el pool dedicado sin mezclar resultados")
+    void shouldVerifyLargeBatchesInParallel() {
+        // Given
+        when(jwtTokenProvider.parse(anyString())).thenAnswer(invocation -> {
+            String token = invocation.getArgument(0);
+            return token.endsWith("7") ? Optional.empty() : Optional.of(claims(token + "@correo.org"));
+        });
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tokens.add("token" + (i % 50));
+        }
+        
+        // When
+        IntrospectTokensResponse response = introspectTokensUseCase.execute(tokens);
+        
+        // Then
+        assertEquals(100, response.getTotal());
+        assertEquals(90, response.getActive());
+        for (int i = 0; i < 100; i++) {
+            TokenIntrospectionResult result = response.getResults().get(i);
+            assertEquals(i, result.getIndex());
+            assertEquals(!tokens.get(i).endsWith("7"), result.isActive());
+            if (result.isActive()) {
+                assertEquals(tokens.get(i) + "@correo.org", result.getSub());
+            }
+        }
+        verify(jwtTokenProvider, times(50)).parse(anyString());
+    }
+    
+    @Test
+    @DisplayName("Deberia cancelar los tramos pendientes cuando un tramo falla")
+    void shouldCancelOutstandingSlicesWhenOneFails() throws InterruptedException {
+        // Given
+        CountDownLatch blockedStarted = new CountDownLatch(1);
+        CountDownLatch blockedInterrupted = new CountDownLatch(1);
+        when(jwtTokenProvider.parse(anyString())).thenAnswer(invocation -> {
+            String token = invocation.getArgument(0);
+            if ("token.falla".equals(token)) {
+                blockedStarted.await(5, TimeUnit.SECONDS);
+                throw new IllegalStateException("Error verificando token");
+            }
+            if ("token.lento".equals(token)) {
+                blockedStarted.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException ex) {
+                    blockedInterrupted.countDown();
+                }
+            }
+            return Optional.empty();
+        });
+        // Tramos de 2 tokens: el hilo de la peticion verifica el primero y el pool los demas
+        List<String> tokens = List.of("token0", "token1", "token.falla", "token3",
+                "token.lento", "token5", "token6", "token7");
+        
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> introspectTokensUseCase.execute(tokens));
+        assertTrue(blockedInterrupted.await(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    @DisplayName("Deberia rechazar lotes vacios o que exceden el tamaño maximo")
+    void shouldRejectEmptyOrOversizedBatch() {
+        // When & Then
+        assertThrows(ValidationException.class, () -> introspectTokensUseCase.execute(List.of()));
+        assertThrows(ValidationException.class,
+                () -> introspectTokensUseCase.execute(Collections.nCopies(201, "token")));
+        verifyNoInteractions(jwtTokenProvider);
+    }
+    
+    private static Claims claims(String subject) {
+        return Jwts.claims().subject(subject).expiration(EXPIRATION).build();
+    }
+}
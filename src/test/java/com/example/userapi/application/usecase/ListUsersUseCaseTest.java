@@ -0,0 +1,126 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.dto.UserPageResponse;
+import com.example.userapi.application.mapper.UserMapper;
+import com.example.userapi.domain.exception.ValidationException;
+import com.example.userapi.domain.model.UserSearchCriteria;
+import com.example.userapi.domain.model.UserSummary;
+import com.example.userapi.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListUsersUseCase - Tests de Paginacion por Cursor")
+class ListUsersUseCaseTest {
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    private ListUsersUseCase listUsersUseCase;
+    
+    @BeforeEach
+    void setUp() {
+        listUsersUseCase = new ListUsersUseCase(userRepository, UserMapper.builder().build());
+        ReflectionTestUtils.setField(listUsersUseCase, "maxPageSize", 100);
+    }
+    
+    @Test
+    @DisplayName("Debería retornar un cursor que continua despues del ultimo elemento")
+    void shouldReturnCursorPointingAfterLastItem() {
+        // Given
+        LocalDateTime created = LocalDateTime.of(2025, 11, 10, 10, 30);
+        UserSummary first = summary(created);
+        UserSummary second = summary(created.plusSeconds(1));
+        UserSummary extra = summary(created.plusSeconds(2));
+        when(userRepository.search(any(UserSearchCriteria.class)))
+                .thenReturn(List.of(first, second, extra))
+                .thenReturn(List.of());
+        
+        // When
+        UserPageResponse page = listUsersUseCase.execute(true, null, null, null, null, 2);
+        listUsersUseCase.execute(true, null, null, null, page.getNextCursor(), 2);
+        
+        // Then
+        assertEquals(2, page.getItems().size());
+        assertNotNull(page.getNextCursor());
+        ArgumentCaptor<UserSearchCriteria> criteria = ArgumentCaptor.forClass(UserSearchCriteria.class);
+        verify(userRepository, times(2)).search(criteria.capture());
+        UserSearchCriteria firstPage = criteria.getAllValues().get(0);
+        UserSearchCriteria nextPage = criteria.getAllValues().get(1);
+        assertEquals(3, firstPage.limit());
+        assertNull(firstPage.afterId());
+        assertEquals(second.created(), nextPage.afterCreated());
+        assertEquals(second.id(), nextPage.afterId());
+    }
+    
+    @Test
+    @DisplayName("Debería omitir el cursor en la ultima pagina")
+    void shouldOmitCursorOnLastPage() {
+        // Given
+        when(userRepository.search(any(UserSearchCriteria.class)))
+                .thenReturn(List.of(summary(LocalDateTime.now())));
+        
+        // When
+        UserPageResponse page = listUsersUseCase.execute(null, "jorge", null, null, null, 10);
+        
+        // Then
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar un cursor invalido o un tamaño de pagina fuera de rango")
+    void shouldRejectInvalidCursorAndLimit() {
+        assertThrows(ValidationException.class,
+                () -> listUsersUseCase.execute(null, null, null, null, "no-es-un-cursor", 10));
+        assertThrows(ValidationException.class,
+                () -> listUsersUseCase.execute(null, null, null, null, null, 0));
+        assertThrows(ValidationException.class,
+                () -> listUsersUseCase.execute(null, null, null, null, null, 101));
+        verifyNoInteractions(userRepository);
+    }
+    
+    @Test
+    @DisplayName("Debería buscar usuarios por telefono con el tamaño maximo de pagina")
+    void shouldFindUsersByPhone() {
+        // Given
+        when(userRepository.findByPhone("57", "1", "1234567", 100))
+                .thenReturn(List.of(summary(LocalDateTime.now())));
+        
+        // When
+        UserPageResponse page = listUsersUseCase.findByPhone("57", "1", "1234567");
+        
+        // Then
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar la busqueda por telefono incompleta")
+    void shouldRejectIncompletePhone() {
+        assertThrows(ValidationException.class,
+                () -> listUsersUseCase.findByPhone("57", null, "1234567"));
+        assertThrows(ValidationException.class,
+                () -> listUsersUseCase.findByPhone("57", "1", " "));
+        verifyNoInteractions(userRepository);
+    }
+    
+    private UserSummary summary(LocalDateTime created) {
+        return new UserSummary(UUID.randomUUID(), "Jorge Marquez", UUID.randomUUID() + "@marquez.org",
+                List.of(), created, created, created, true);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.dto.RegisterUserRequest;
+import com.example.userapi.application.mapper.UserMapper;
+import com.example.userapi.domain.exception.BusinessException;
+import com.example.userapi.domain.model.User;
+import com.example.userapi.domain.repository.ReactiveUserRepository;
+import com.example.userapi.domain.service.InFlightRegistrations;
+import com.example.userapi.domain.service.UserRegistrationPolicy;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveRegisterUserUseCase - Tests de Registro No Bloqueante")
+class ReactiveRegisterUserUseCaseTest {
+    
+    @Mock
+    private UserRegistrationPolicy registrationPolicy;
+    
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    
+    @Mock
+    private ReactiveUserRepository reactiveUserRepository;
+    
+    private Scheduler scheduler;
+    private InFlightRegistrations inFlightRegistrations;
+    private ReactiveRegisterUserUseCase reactiveRegisterUserUseCase;
+    
+    @BeforeEach
+    void setUp() {
+        scheduler = Schedulers.newBoundedElastic(1, 10, "test-registration");
+        inFlightRegistrations = new InFlightRegistrations(5000);
+        reactiveRegisterUserUseCase = new ReactiveRegisterUserUseCase(registrationPolicy, UserMapper.builder().build(),
+                jwtTokenProvider, reactiveUserRepository, scheduler, inFlightRegistrations);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+    
+    @Test
+    @DisplayName("Debería hashear y firmar en el scheduler acotado y persistir el usuario")
+    void shouldRegisterUserOnBoundedScheduler() {
+        // Given
+        when(reactiveUserRepository.existsByEmail("juan@rodriguez.org")).thenReturn(Mono.just(false));
+        doAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            user.assignId();
+            user.activate();
+            user.setPassword(Thread.currentThread().getName());
+            return null;
+        }).when(registrationPolicy).prepareForPersistence(any(User.class), anyString());
+        when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("jwt");
+        when(reactiveUserRepository.save(any(User.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        
+        // When & Then
+        StepVerifier.create(reactiveRegisterUserUseCase.execute(request()))
+                .expectNextMatches(response -> "jwt".equals(response.getToken())
+                        && "juan@rodriguez.org".equals(response.getEmail()))
+                .verifyComplete();
+        verify(reactiveUserRepository).save(argThat(user -> user.getPassword().startsWith("test-registration")));
+        assertEquals(0, inFlightRegistrations.size());
+    }
+    
+    @Test
+    @DisplayName("Debería fallar con BusinessException si el correo ya existe, sin hashear")
+    void shouldFailWhenEmailExists() {
+        // Given
+        when(reactiveUserRepository.existsByEmail("juan@rodriguez.org")).thenReturn(Mono.just(true));
+        
+        // When & Then
+        StepVerifier.create(reactiveRegisterUserUseCase.execute(request()))
+                .expectError(BusinessException.class)
+                .verify();
+        verify(registrationPolicy, never()).prepareForPersistence(any(), any());
+        verify(reactiveUserRepository, never()).save(any());
+        assertEquals(0, inFlightRegistrations.size());
+    }
+    
+    @Test
+    @DisplayName("Debería esperar el registro concurrente del mismo correo sin consultar ni hashear")
+    void shouldWaitForConcurrentRegistrationOfSameEmail() {
+        // Given
+        InFlightRegistrations shortWait = new InFlightRegistrations(50);
+        ReactiveRegisterUserUseCase useCase = new ReactiveRegisterUserUseCase(registrationPolicy,
+                UserMapper.builder().build(), jwtTokenProvider, reactiveUserRepository, scheduler, shortWait);
+        shortWait.acquire("juan@rodriguez.org");
+        
+        // When & Then
+        StepVerifier.create(useCase.execute(request()))
+                .expectError(BusinessException.class)
+                .verify(Duration.ofSeconds(5));
+        verify(registrationPolicy, never()).prepareForPersistence(any(), any());
+        verify(reactiveUserRepository, never()).existsByEmail(anyString());
+        verify(reactiveUserRepository, never()).save(any());
+    }
+    
+    private RegisterUserRequest request() {
+        return RegisterUserRequest.builder()
+                .name("Juan Rodriguez")
+                .email("juan@rodriguez.org")
+                .password("Hunter22")
+                .phones(new ArrayList<>())
+                .build();
+    }
+}
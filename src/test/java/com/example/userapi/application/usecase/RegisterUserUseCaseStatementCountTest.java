@@ -0,0 +1,67 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.dto.PhoneDTO;
+import com.example.userapi.application.dto.RegisterUserRequest;
+import com.example.userapi.application.dto.UserResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("RegisterUserUseCase - Conteo de sentencias SQL por registro")
+class RegisterUserUseCaseStatementCountTest {
+    
+    @Autowired
+    private RegisterUserUseCase registerUserUseCase;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private Statistics statistics;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+    
+    @Test
+    @DisplayName("Debería registrar un usuario con un unico INSERT por tabla y sin UPDATE")
+    void shouldRegisterWithSingleWrite() {
+        // Given
+        RegisterUserRequest request = RegisterUserRequest.builder()
+                .name("Conteo Sentencias")
+                .email("conteo@sentencias.org")
+                .password("Hunter22")
+                .phones(List.of(PhoneDTO.builder()
+                        .number("1234567")
+                        .citycode("1")
+                        .contrycode("57")
+                        .build()))
+                .build();
+        
+        // When
+        UserResponse response = registerUserUseCase.execute(request);
+        
+        // Then
+        assertNotNull(response.getId());
+        assertNotNull(response.getToken());
+        
+        // INSERT users + INSERT phones; el filtro de emails evita el SELECT de duplicado.
+        // Phone es una entidad en cascada con UUID generado en memoria: dos entidades insertadas
+        // (usuario y telefono) sin SELECT previo por el ID
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
@@ -6,6 +6,7 @@ import com.example.userapi.application.mapper.UserMapper;
 import com.example.userapi.domain.model.User;
 import com.example.userapi.domain.service.UserService;
 import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,10 +17,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -84,9 +87,12 @@ class RegisterUserUseCaseTest {
                 .build();
         
         when(userMapper.toEntity(any(RegisterUserRequest.class))).thenReturn(userToRegister);
-        when(userService.registerUser(any(User.class), anyString())).thenReturn(registeredUser);
-        when(jwtTokenProvider.generateToken(anyString())).thenReturn(token);
-        doNothing().when(userService).updateUserToken(any(User.class), anyString());
+        when(userService.registerUser(any(User.class), anyString(), any())).thenAnswer(invocation -> {
+            Function<User, String> tokenIssuer = invocation.getArgument(2);
+            registeredUser.updateToken(tokenIssuer.apply(registeredUser));
+            return registeredUser;
+        });
+        when(jwtTokenProvider.generateToken(any(User.class))).thenReturn(token);
         when(userMapper.toResponse(any(User.class))).thenReturn(expectedResponse);
         
         // When
@@ -100,10 +106,11 @@ class RegisterUserUseCaseTest {
         assertEquals(token, response.getToken());
         assertTrue(response.getIsactive());
         
+        assertEquals(token, registeredUser.getToken());
+        
         verify(userMapper, times(1)).toEntity(request);
-        verify(userService, times(1)).registerUser(userToRegister, request.getPassword());
-        verify(jwtTokenProvider, times(1)).generateToken(registeredUser.getEmail());
-        verify(userService, times(1)).updateUserToken(registeredUser, token);
+        verify(userService, times(1)).registerUser(eq(userToRegister), eq(request.getPassword()), any());
+        verify(jwtTokenProvider, times(1)).generateToken(registeredUser);
         verify(userMapper, times(1)).toResponse(registeredUser);
     }
     
@@ -124,7 +131,7 @@ class RegisterUserUseCaseTest {
                 .build();
         
         when(userMapper.toEntity(any(RegisterUserRequest.class))).thenReturn(userToRegister);
-        when(userService.registerUser(any(User.class), anyString()))
+        when(userService.registerUser(any(User.class), anyString(), any()))
                 .thenThrow(new RuntimeException("Email inválido"));
         
         // When & Then
@@ -132,8 +139,41 @@ class RegisterUserUseCaseTest {
             () -> registerUserUseCase.execute(request));
         
         verify(userMapper, times(1)).toEntity(request);
-        verify(userService, times(1)).registerUser(userToRegister, request.getPassword());
-        verify(jwtTokenProvider, never()).generateToken(anyString());
+        verify(userService, times(1)).registerUser(eq(userToRegister), eq(request.getPassword()), any());
+        verify(jwtTokenProvider, never()).generateToken(any(User.class));
         verify(userMapper, never()).toResponse(any());
     }
+    
+    @Test
+    @DisplayName("Debería medir cada etapa del registro una vez registrados los timers")
+    void shouldRecordStageTimers() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        registerUserUseCase.bindTo(registry);
+        
+        RegisterUserRequest request = RegisterUserRequest.builder()
+                .name("Juan Rodriguez")
+                .email("juan@rodriguez.org")
+                .password("Hunter22")
+                .phones(new ArrayList<>())
+                .build();
+        User user = User.builder()
+                .name(request.getName())
+                .email(request.getEmail())
+                .phones(new ArrayList<>())
+                .build();
+        
+        when(userMapper.toEntity(any(RegisterUserRequest.class))).thenReturn(user);
+        when(userService.registerUser(any(User.class), anyString(), any())).thenReturn(user);
+        when(userMapper.toResponse(any(User.class))).thenReturn(UserResponse.builder().build());
+        
+        // When
+        registerUserUseCase.execute(request);
+        
+        // Then
+        for (String stage : new String[] {"map", "register", "respond"}) {
+            assertEquals(1, registry.get("users.registration.stage").tag("stage", stage).timer().count(),
+                    "Etapa " + stage);
+        }
+    }
 }
@@ -0,0 +1,211 @@
+package com.example.userapi.application.usecase;
+
+import com.example.userapi.application.dto.BatchRegisterResponse;
+import com.example.userapi.application.dto.RegisterUserRequest;
+import com.example.userapi.application.dto.UserResponse;
+import com.example.userapi.application.mapper.UserMapper;
+import com.example.userapi.domain.exception.ServiceOverloadedException;
+import com.example.userapi.domain.exception.ValidationException;
+import com.example.userapi.domain.model.User;
+import com.example.userapi.domain.service.UserService;
+import com.example.userapi.infrastructure.security.JwtTokenProvider;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegisterUsersBatchUseCase - Tests de Registro por Lotes")
+class RegisterUsersBatchUseCaseTest {
+    
+    @Mock
+    private UserService userService;
+    
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    
+    private RegisterUsersBatchUseCase registerUsersBatchUseCase;
+    
+    @BeforeEach
+    void setUp() {
+        registerUsersBatchUseCase = new RegisterUsersBatchUseCase(userService, UserMapper.builder().build(),
+                jwtTokenProvider, Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(registerUsersBatchUseCase, "maxBatchSize", 10);
+        ReflectionTestUtils.setField(registerUsersBatchUseCase, "chunkSize", 2);
+    }
+    
+    @Test
+    @DisplayName("Debería registrar el lote y reportar el resultado de cada elemento")
+    void shouldRegisterBatchWithPerItemResults() {
+        // Given
+        List<RegisterUserRequest> requests = List.of(
+                request("ana@correo.org"),
+                request("existente@correo.org"),
+                request("ana@correo.org"),
+                request("luis@correo.org"),
+                request("pedro@correo.org"));
+        
+        when(userService.findRegisteredEmails(any())).thenAnswer(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            return emails.contains("existente@correo.org") ? Set.of("existente@correo.org") : Set.of();
+        });
+        when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("generated.jwt.token");
+        when(userService.saveUsers(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            users.forEach(user -> user.setId(UUID.randomUUID()));
+            return users;
+        });
+        
+        // When
+        BatchRegisterResponse response = registerUsersBatchUseCase.execute(requests);
+        
+        // Then
+        assertEquals(5, response.getTotal());
+        assertEquals(3, response.getCreated());
+        assertEquals(2, response.getFailed());
+        assertEquals(201, response.getResults().get(0).getStatus());
+        assertEquals(409, response.getResults().get(1).getStatus());
+        assertEquals(409, response.getResults().get(2).getStatus());
+        assertEquals(201, response.getResults().get(3).getStatus());
+        assertEquals(201, response.getResults().get(4).getStatus());
+        
+        UserResponse created = response.getResults().get(0).getUser();
+        assertNotNull(created.getId());
+        assertEquals("generated.jwt.token", created.getToken());
+        
+        // Una consulta de duplicados y una transaccion por cada bloque de dos elementos
+        verify(userService, times(2)).findRegisteredEmails(any());
+        verify(userService, times(2)).saveUsers(anyList());
+        verify(userService, times(2)).prepareForPersistence(anyList(), anyList());
+        verify(userService, never()).prepareForPersistence(any(User.class), anyString());
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar elementos invalidos sin afectar al resto del lote")
+    void shouldRejectInvalidItemsIndividually() {
+        // Given
+        RegisterUserRequest missingName = request("sin@nombre.org");
+        missingName.setName("");
+        List<RegisterUserRequest> requests = List.of(missingName, request("valido@correo.org"));
+        
+        when(userService.findRegisteredEmails(any())).thenReturn(Set.of());
+        when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("generated.jwt.token");
+        when(userService.saveUsers(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        BatchRegisterResponse response = registerUsersBatchUseCase.execute(requests);
+        
+        // Then
+        assertEquals(400, response.getResults().get(0).getStatus());
+        assertEquals("El nombre es obligatorio", response.getResults().get(0).getMensaje());
+        assertEquals(201, response.getResults().get(1).getStatus());
+    }
+    
+    @Test
+    @DisplayName("Debería responder 409 al correo registrado concurrentemente y reintentar el resto del bloque")
+    void shouldMapConcurrentDuplicateToConflictAndRetryRest() {
+        // Given
+        List<RegisterUserRequest> requests = List.of(request("ana@correo.org"), request("luis@correo.org"));
+        
+        when(userService.findRegisteredEmails(any())).thenReturn(Set.of());
+        when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("generated.jwt.token");
+        when(userService.saveUsers(anyList()))
+                .thenThrow(new DataIntegrityViolationException("Unique index or primary key violation: UK_USERS_EMAIL"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(userService.confirmRegisteredEmails(any())).thenReturn(Set.of("ana@correo.org"));
+        
+        // When
+        BatchRegisterResponse response = registerUsersBatchUseCase.execute(requests);
+        
+        // Then
+        assertEquals(409, response.getResults().get(0).getStatus());
+        assertEquals(201, response.getResults().get(1).getStatus());
+        assertEquals("luis@correo.org", response.getResults().get(1).getUser().getEmail());
+        verify(userService, times(2)).saveUsers(anyList());
+    }
+    
+    @Test
+    @DisplayName("Debería responder 500 solo al bloque cuando el error no es del correo")
+    void shouldFailOnlyChunkOnOtherDataErrors() {
+        // Given
+        List<RegisterUserRequest> requests = List.of(request("ana@correo.org"), request("luis@correo.org"));
+        
+        when(userService.findRegisteredEmails(any())).thenReturn(Set.of());
+        when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("generated.jwt.token");
+        when(userService.saveUsers(anyList())).thenThrow(new DataIntegrityViolationException("NULL not allowed"));
+        
+        // When
+        BatchRegisterResponse response = registerUsersBatchUseCase.execute(requests);
+        
+        // Then
+        assertEquals(500, response.getResults().get(0).getStatus());
+        assertEquals(500, response.getResults().get(1).getStatus());
+        verify(userService, never()).confirmRegisteredEmails(any());
+    }
+    
+    @Test
+    @DisplayName("Debería responder 503 al bloque saturado y a los siguientes, conservando los ya registrados")
+    void shouldReportOverloadForRemainingItems() {
+        // Given
+        List<RegisterUserRequest> requests = List.of(request("ana@correo.org"), request("luis@correo.org"),
+                request("pedro@correo.org"), request("sofia@correo.org"), request("juan@correo.org"));
+        
+        when(userService.findRegisteredEmails(any())).thenReturn(Set.of());
+        when(jwtTokenProvider.generateToken(any(User.class))).thenReturn("generated.jwt.token");
+        when(userService.saveUsers(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        doNothing()
+                .doThrow(new ServiceOverloadedException("Servicio temporalmente saturado, intente nuevamente"))
+                .when(userService).prepareForPersistence(anyList(), anyList());
+        
+        // When
+        BatchRegisterResponse response = registerUsersBatchUseCase.execute(requests);
+        
+        // Then
+        assertEquals(2, response.getCreated());
+        assertEquals(201, response.getResults().get(1).getStatus());
+        assertEquals(503, response.getResults().get(2).getStatus());
+        assertEquals(503, response.getResults().get(3).getStatus());
+        assertEquals(503, response.getResults().get(4).getStatus());
+        verify(userService, times(1)).saveUsers(anyList());
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar lotes que exceden el tamaño maximo")
+    void shouldRejectOversizedBatch() {
+        // Given
+        List<RegisterUserRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            requests.add(request("usuario@correo.org"));
+        }
+        
+        // When & Then
+        assertThrows(ValidationException.class, () -> registerUsersBatchUseCase.execute(requests));
+        verify(userService, never()).saveUsers(anyList());
+    }
+    
+    private RegisterUserRequest request(String email) {
+        return RegisterUserRequest.builder()
+                .name("Usuario Lote")
+                .email(email)
+                .password("Hunter22")
+                .phones(new ArrayList<>())
+                .build();
+    }
+}
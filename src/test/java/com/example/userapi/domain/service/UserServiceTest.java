@@ -1,20 +1,29 @@
 package com.example.userapi.domain.service;
 
 import com.example.userapi.domain.exception.BusinessException;
+import com.example.userapi.domain.exception.InvalidCredentialsException;
 import com.example.userapi.domain.exception.ValidationException;
 import com.example.userapi.domain.model.User;
 import com.example.userapi.domain.repository.UserRepository;
+import com.example.userapi.domain.validation.ValidationRuleEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,13 +40,37 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
     
-    @InjectMocks
     private UserService userService;
     
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(userService, "emailRegexp", "^[a-z]+@[a-z]+\\.[a-z]{2,}$");
-        ReflectionTestUtils.setField(userService, "passwordRegexp", "^(?=.*[A-Z])(?=.*[a-z])(?=.*\\d.*\\d)[A-Za-z\\d]{8,}$");
+        ValidationRuleEngine validationRuleEngine = new ValidationRuleEngine(
+                "^[a-z]+@[a-z]+\\.[a-z]{2,}$",
+                "^(?=.*[A-Z])(?=.*[a-z])(?=.*\\d.*\\d)[A-Za-z\\d]{8,}$");
+        userService = new UserService(userRepository, passwordEncoder, validationRuleEngine);
+    }
+    
+    @Test
+    @DisplayName("Debería preparar un bloque calculando los hashes en paralelo, en orden")
+    void shouldPrepareChunkWithParallelHashing() {
+        // Given
+        List<User> users = List.of(
+                User.builder().name("Ana").email("ana@correo.org").phones(new ArrayList<>()).build(),
+                User.builder().name("Luis").email("luis@correo.org").phones(new ArrayList<>()).build(),
+                User.builder().name("Pedro").email("pedro@correo.org").phones(new ArrayList<>()).build());
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hash-" + invocation.getArgument(0));
+        
+        // When
+        userService.prepareForPersistence(users, List.of("Clave1", "Clave2", "Clave3"));
+        
+        // Then
+        assertEquals(List.of("hash-Clave1", "hash-Clave2", "hash-Clave3"),
+                users.stream().map(User::getPassword).toList());
+        users.forEach(user -> {
+            assertNotNull(user.getId());
+            assertTrue(user.getIsactive());
+        });
+        verify(passwordEncoder, times(3)).encode(anyString());
     }
     
     @Test
@@ -75,6 +108,35 @@ class UserServiceTest {
         verify(userRepository, times(1)).save(user);
     }
     
+    @Test
+    @DisplayName("Debería asignar ID y token antes de un unico save")
+    void shouldAssignIdAndTokenBeforeSingleSave() {
+        // Given
+        User user = User.builder()
+                .name("Juan Rodriguez")
+                .email("juan@rodriguez.org")
+                .phones(new ArrayList<>())
+                .build();
+        
+        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$encodedPassword");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User savedUser = invocation.getArgument(0);
+            // Al momento del INSERT el usuario ya tiene ID y token
+            assertNotNull(savedUser.getId());
+            assertEquals("token-" + savedUser.getId(), savedUser.getToken());
+            return savedUser;
+        });
+        
+        // When
+        User registeredUser = userService.registerUser(user, "Hunter22",
+                userToRegister -> "token-" + userToRegister.getId());
+        
+        // Then
+        assertNotNull(registeredUser.getToken());
+        verify(userRepository, times(1)).save(user);
+    }
+    
     @Test
     @DisplayName("Deberia lanzar excepcion cuando el email es invalido")
     void shouldThrowExceptionWhenEmailIsInvalid() {
@@ -165,23 +227,97 @@ class UserServiceTest {
     }
     
     @Test
-    @DisplayName("Debería actualizar el token del usuario")
-    void shouldUpdateUserToken() {
+    @DisplayName("Debería hacer esperar al registro concurrente del mismo email sin calcular el hash")
+    void shouldCoalesceConcurrentRegistrationsOfSameEmail() throws Exception {
         // Given
-        User user = User.builder()
-                .name("Jorge Marquez")
-                .email("jorge@marquez.org")
-                .build();
+        CountDownLatch hashing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            hashing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "$2a$10$encodedPassword";
+        });
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
         
-        String newToken = "newJwtToken";
+        try {
+            Future<User> first = executor.submit(() -> userService.registerUser(newUser(), "Hunter22"));
+            assertTrue(hashing.await(5, TimeUnit.SECONDS));
+            Future<User> second = executor.submit(() -> userService.registerUser(newUser(), "Hunter22"));
+            
+            // When
+            release.countDown();
+            
+            // Then
+            assertNotNull(first.get(5, TimeUnit.SECONDS));
+            Exception exception = assertThrows(Exception.class, () -> second.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(BusinessException.class, exception.getCause());
+            verify(passwordEncoder, times(1)).encode(anyString());
+            verify(userRepository, times(1)).existsByEmail(anyString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    @DisplayName("Debería permitir reintentar el email cuando el registro anterior falla")
+    void shouldReleaseEmailWhenRegistrationFails() {
+        // Given
+        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$encodedPassword");
+        when(userRepository.save(any(User.class)))
+                .thenThrow(new BusinessException("El correo ya registrado"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        assertThrows(BusinessException.class, () -> userService.registerUser(newUser(), "Hunter22"));
+        User registered = userService.registerUser(newUser(), "Hunter22");
         
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        // Then
+        assertNotNull(registered.getId());
+    }
+    
+    @Test
+    @DisplayName("Debería autenticar y registrar el inicio de sesion sin guardar el usuario")
+    void shouldAuthenticateAndRecordLastLogin() {
+        // Given
+        User stored = newUser();
+        stored.setId(UUID.randomUUID());
+        stored.setPassword("$2a$10$encodedPassword");
+        stored.activate();
+        when(userRepository.findByEmail("juan@rodriguez.org")).thenReturn(Optional.of(stored));
+        when(passwordEncoder.matches("Hunter22", "$2a$10$encodedPassword")).thenReturn(true);
         
         // When
-        userService.updateUserToken(user, newToken);
+        User authenticated = userService.authenticate("juan@rodriguez.org", "Hunter22");
         
         // Then
-        assertEquals(newToken, user.getToken());
-        verify(userRepository, times(1)).save(user);
+        assertNotNull(authenticated.getLastLogin());
+        assertEquals(authenticated.getLastLogin(), authenticated.getModified());
+        verify(userRepository).recordLastLogin(stored.getId(), authenticated.getLastLogin());
+        verify(userRepository, never()).save(any(User.class));
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar credenciales invalidas verificando igualmente un hash")
+    void shouldRejectInvalidCredentials() {
+        // Given
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$unknownUser");
+        
+        // When & Then
+        assertThrows(InvalidCredentialsException.class,
+                () -> userService.authenticate("nadie@rodriguez.org", "Hunter22"));
+        verify(passwordEncoder).matches("Hunter22", "$2a$10$unknownUser");
+        verify(userRepository, never()).recordLastLogin(any(UUID.class), any(LocalDateTime.class));
+    }
+    
+    private User newUser() {
+        return User.builder()
+                .name("Juan Rodriguez")
+                .email("juan@rodriguez.org")
+                .phones(new ArrayList<>())
+                .build();
     }
 }
@@ -0,0 +1,96 @@
+package com.example.userapi.domain.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ValidationRuleEngine - Tests del Motor de Reglas de Validacion")
+class ValidationRuleEngineTest {
+    
+    private static final List<String> EMAILS = List.of(
+            "jorge@marquez.org", "a@b.cl", "Jorge@marquez.org", "jorge@marquez", "jorge@marquez.o",
+            "@marquez.org", "jorge@.org", "jorge.m@marquez.org", "jorge@marquez.co.uk", "jorge@@marquez.org",
+            "jorge@marquez.org.", "jorge marquez@x.org", "jorge1@marquez.org", "");
+    
+    private static final List<String> PASSWORDS = List.of(
+            "Hunter22", "hunter22", "HUNTER22", "Hunter2", "Hunterxx", "Hunter2x2", "22Hunter",
+            "Hunter 22", "Hünter22", "Hunter22!", "aB12aB12aB12", "Ab1", "");
+    
+    @Test
+    @DisplayName("Los fast-path deberian ser equivalentes a las expresiones por defecto")
+    void fastPathsShouldMatchDefaultRegexps() {
+        Pattern email = Pattern.compile(SimpleEmailRule.DEFAULT_REGEXP);
+        Pattern password = Pattern.compile(PasswordPolicyRule.DEFAULT_REGEXP);
+        SimpleEmailRule emailRule = new SimpleEmailRule();
+        PasswordPolicyRule passwordRule = PasswordPolicyRule.defaultPolicy();
+        
+        EMAILS.forEach(value ->
+                assertEquals(email.matcher(value).matches(), emailRule.matches(value), value));
+        PASSWORDS.forEach(value ->
+                assertEquals(password.matcher(value).matches(), passwordRule.matches(value), value));
+    }
+    
+    @Test
+    @DisplayName("Deberia usar regex para expresiones personalizadas y fast-path para las por defecto")
+    void shouldSelectStrategyByExpression() {
+        ValidationRuleEngine engine = new ValidationRuleEngine("^.+@.+$", PasswordPolicyRule.DEFAULT_REGEXP);
+        
+        assertTrue(engine.isValidEmail("Cualquier@Cosa"));
+        assertTrue(engine.isValidPassword("Hunter22"));
+        assertEquals("regex", engine.getStatistics().get("email").strategy());
+        assertEquals("fast-path", engine.getStatistics().get("password").strategy());
+    }
+    
+    @Test
+    @DisplayName("Deberia recargar reglas y conservar las anteriores si la nueva expresion es invalida")
+    void shouldReloadRules() {
+        ValidationRuleEngine engine = new ValidationRuleEngine(
+                SimpleEmailRule.DEFAULT_REGEXP, PasswordPolicyRule.DEFAULT_REGEXP);
+        assertFalse(engine.isValidEmail("Jorge@Marquez.org"));
+        
+        engine.reload("^[A-Za-z]+@[A-Za-z]+\\.[a-z]{2,}$", PasswordPolicyRule.DEFAULT_REGEXP);
+        assertTrue(engine.isValidEmail("Jorge@Marquez.org"));
+        
+        assertThrows(RuntimeException.class, () -> engine.reload("[", PasswordPolicyRule.DEFAULT_REGEXP));
+        assertTrue(engine.isValidEmail("Jorge@Marquez.org"));
+    }
+    
+    @Test
+    @DisplayName("Deberia recargar reglas en caliente desde el archivo externo")
+    void shouldReloadFromRulesFile(@TempDir Path tempDir) throws Exception {
+        Path rulesFile = tempDir.resolve("validation.properties");
+        ValidationRuleEngine engine = new ValidationRuleEngine(
+                SimpleEmailRule.DEFAULT_REGEXP, PasswordPolicyRule.DEFAULT_REGEXP, rulesFile.toString(), true);
+        assertFalse(engine.isValidPassword("abcdefgh"));
+        
+        Files.writeString(rulesFile, "validation.password.regexp=^[a-z]{8,}$\n");
+        Files.setLastModifiedTime(rulesFile, FileTime.fromMillis(System.currentTimeMillis()));
+        engine.reloadIfChanged();
+        
+        assertTrue(engine.isValidPassword("abcdefgh"));
+        assertTrue(engine.isValidEmail("jorge@marquez.org"));
+    }
+    
+    @Test
+    @DisplayName("Deberia acumular evaluaciones y rechazos por regla")
+    void shouldRecordTimings() {
+        ValidationRuleEngine engine = new ValidationRuleEngine(
+                SimpleEmailRule.DEFAULT_REGEXP, PasswordPolicyRule.DEFAULT_REGEXP);
+        
+        engine.isValidEmail("jorge@marquez.org");
+        engine.isValidEmail("invalido");
+        
+        ValidationRuleEngine.RuleTiming timing = engine.getStatistics().get("email");
+        assertEquals(2, timing.evaluations());
+        assertEquals(1, timing.rejections());
+        assertTrue(timing.totalNanos() >= 0);
+    }
+}
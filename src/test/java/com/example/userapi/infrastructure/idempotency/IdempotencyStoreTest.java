@@ -0,0 +1,189 @@
+package com.example.userapi.infrastructure.idempotency;
+
+import com.example.userapi.domain.exception.BusinessException;
+import com.example.userapi.domain.exception.IdempotencyConflictException;
+import com.example.userapi.domain.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IdempotencyStore - Tests de Idempotencia")
+class IdempotencyStoreTest {
+    
+    private static final byte[] FINGERPRINT = {1, 2, 3};
+    private static final byte[] BODY = "{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+    
+    private IdempotencyStore store;
+    
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(100, 60, 5000);
+    }
+    
+    @Test
+    @DisplayName("Debería reproducir la respuesta sin volver a ejecutar la operacion")
+    void shouldReplayStoredResponse() {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+        
+        // When
+        IdempotencyStore.Outcome first = store.execute("key-1", FINGERPRINT, () -> {
+            executions.incrementAndGet();
+            return BODY;
+        });
+        IdempotencyStore.Outcome retry = store.execute("key-1", FINGERPRINT.clone(), () -> {
+            executions.incrementAndGet();
+            return BODY;
+        });
+        
+        // Then
+        assertFalse(first.replayed());
+        assertTrue(retry.replayed());
+        assertArrayEquals(BODY, retry.body());
+        assertEquals(1, executions.get());
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar una llave reutilizada con otra peticion")
+    void shouldRejectKeyReusedWithDifferentRequest() {
+        // Given
+        store.execute("key-1", FINGERPRINT, () -> BODY);
+        
+        // When & Then
+        assertThrows(IdempotencyConflictException.class,
+                () -> store.execute("key-1", new byte[] {9}, () -> BODY));
+    }
+    
+    @Test
+    @DisplayName("Debería liberar la llave cuando la operacion falla")
+    void shouldReleaseKeyOnFailure() {
+        // Given
+        assertThrows(BusinessException.class, () -> store.execute("key-1", FINGERPRINT, () -> {
+            throw new BusinessException("El correo ya registrado");
+        }));
+        
+        // When
+        IdempotencyStore.Outcome retry = store.execute("key-1", FINGERPRINT, () -> BODY);
+        
+        // Then
+        assertFalse(retry.replayed());
+    }
+    
+    @Test
+    @DisplayName("Debería unir las peticiones concurrentes con la misma llave en una sola ejecucion")
+    void shouldCoalesceConcurrentDuplicates() throws Exception {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        
+        try {
+            Future<IdempotencyStore.Outcome> owner = executor.submit(() -> store.execute("key-1", FINGERPRINT, () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return BODY;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<IdempotencyStore.Outcome> duplicate = executor.submit(() -> store.execute("key-1", FINGERPRINT, () -> {
+                executions.incrementAndGet();
+                return BODY;
+            }));
+            
+            // When
+            release.countDown();
+            
+            // Then
+            assertFalse(owner.get(5, TimeUnit.SECONDS).replayed());
+            assertTrue(duplicate.get(5, TimeUnit.SECONDS).replayed());
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    @DisplayName("Debería rechazar con 503 el duplicado que espera mas del limite")
+    void shouldRejectDuplicateWhenOwnerExceedsWait() throws Exception {
+        // Given
+        IdempotencyStore shortWait = new IdempotencyStore(100, 60, 50);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        
+        try {
+            Future<IdempotencyStore.Outcome> owner = executor.submit(() -> shortWait.execute("key-1", FINGERPRINT, () -> {
+                started.countDown();
+                await(release);
+                return BODY;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            
+            // When & Then
+            assertThrows(ServiceOverloadedException.class,
+                    () -> shortWait.execute("key-1", FINGERPRINT, () -> BODY));
+            release.countDown();
+            assertFalse(owner.get(5, TimeUnit.SECONDS).replayed());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    @DisplayName("Debería conservar la entrada en curso aunque se supere max-keys")
+    void shouldNotEvictInFlightEntry() throws Exception {
+        // Given
+        IdempotencyStore smallStore = new IdempotencyStore(1, 60, 5000);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        
+        try {
+            Future<IdempotencyStore.Outcome> owner = executor.submit(() -> smallStore.execute("pinned", FINGERPRINT, () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return BODY;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            
+            // When
+            for (int i = 0; i < 10; i++) {
+                smallStore.execute("key-" + i, FINGERPRINT, () -> BODY);
+            }
+            smallStore.cleanUp();
+            Future<IdempotencyStore.Outcome> duplicate = executor.submit(() -> smallStore.execute("pinned", FINGERPRINT, () -> {
+                executions.incrementAndGet();
+                return BODY;
+            }));
+            release.countDown();
+            
+            // Then
+            assertFalse(owner.get(5, TimeUnit.SECONDS).replayed());
+            assertTrue(duplicate.get(5, TimeUnit.SECONDS).replayed());
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
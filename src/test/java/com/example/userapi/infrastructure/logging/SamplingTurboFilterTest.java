@@ -0,0 +1,95 @@
+package com.example.userapi.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SamplingTurboFilter - Tests de muestreo y limite de logs")
+class SamplingTurboFilterTest {
+
+    private LoggerContext loggerContext;
+    private Logger sampledLogger;
+    private Logger otherLogger;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        sampledLogger = loggerContext.getLogger("com.example.userapi.application.usecase.RegisterUserUseCase");
+        otherLogger = loggerContext.getLogger("com.example.userapi.domain.service.UserService");
+    }
+
+    private SamplingTurboFilter filter(int sampleRate, int maxPerSecond) {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(loggerContext);
+        filter.setLoggers("com.example.userapi.application.usecase.RegisterUserUseCase");
+        filter.setSampleRate(sampleRate);
+        filter.setMaxPerSecond(maxPerSecond);
+        filter.start();
+        return filter;
+    }
+
+    private int countAccepted(SamplingTurboFilter filter, Logger logger, Level level, int events) {
+        int accepted = 0;
+        for (int i = 0; i < events; i++) {
+            if (filter.decide(null, logger, level, "Usuario registrado: {}", null, null) == FilterReply.NEUTRAL) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    @Test
+    @DisplayName("Debería dejar pasar uno de cada N eventos INFO del logger configurado")
+    void shouldSampleInfoEvents() {
+        // Given
+        SamplingTurboFilter filter = filter(10, 0);
+
+        // When
+        int accepted = countAccepted(filter, sampledLogger, Level.INFO, 100);
+
+        // Then
+        assertEquals(10, accepted);
+        assertEquals(90, filter.getDropped());
+    }
+
+    @Test
+    @DisplayName("Debería limitar la cantidad de eventos por segundo")
+    void shouldRateLimitEvents() {
+        // Given
+        SamplingTurboFilter filter = filter(1, 5);
+
+        // When
+        int accepted = countAccepted(filter, sampledLogger, Level.INFO, 50);
+
+        // Then: la prueba puede cruzar a lo sumo un cambio de segundo
+        assertTrue(accepted >= 5 && accepted <= 10, "Aceptados: " + accepted);
+    }
+
+    @Test
+    @DisplayName("No debería afectar WARN/ERROR ni a otros loggers")
+    void shouldIgnoreWarningsAndOtherLoggers() {
+        // Given
+        SamplingTurboFilter filter = filter(100, 1);
+
+        // When & Then
+        assertEquals(20, countAccepted(filter, sampledLogger, Level.WARN, 20));
+        assertEquals(20, countAccepted(filter, sampledLogger, Level.ERROR, 20));
+        assertEquals(20, countAccepted(filter, otherLogger, Level.INFO, 20));
+        assertEquals(0, filter.getDropped());
+    }
+
+    @Test
+    @DisplayName("Debería enmascarar emails en los argumentos de log")
+    void shouldMaskEmails() {
+        assertEquals("j***@rodriguez.org", LogMasking.email("juan@rodriguez.org").toString());
+        assertEquals("***", LogMasking.email("sin-arroba").toString());
+        assertEquals("null", LogMasking.email(null).toString());
+    }
+}
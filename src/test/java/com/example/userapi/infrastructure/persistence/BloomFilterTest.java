@@ -0,0 +1,53 @@
+package com.example.userapi.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BloomFilter - Tests del Filtro de Bloom")
+class BloomFilterTest {
+    
+    @Test
+    @DisplayName("No deberia producir falsos negativos")
+    void shouldNeverReturnFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("usuario" + i + "@correo.org");
+        }
+        
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("usuario" + i + "@correo.org"));
+        }
+        assertEquals(10_000, filter.insertions());
+    }
+    
+    @Test
+    @DisplayName("Deberia mantener la tasa de falsos positivos cerca del objetivo")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("usuario" + i + "@correo.org");
+        }
+        
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("nuevo" + i + "@correo.org")) {
+                falsePositives++;
+            }
+        }
+        
+        assertTrue(falsePositives < 300, "Falsos positivos: " + falsePositives);
+        assertTrue(filter.expectedFalsePositiveRate() < 0.03);
+        assertTrue(filter.memoryBytes() > 0);
+    }
+    
+    @Test
+    @DisplayName("Un filtro vacio deberia descartar cualquier valor")
+    void emptyFilterShouldRejectEverything() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        
+        assertFalse(filter.mightContain("jorge@marquez.org"));
+        assertEquals(0.0, filter.expectedFalsePositiveRate());
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.userapi.infrastructure.persistence;
+
+import com.example.userapi.domain.model.Phone;
+import com.example.userapi.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingUserRepository - Tests de Cache Read-Through")
+class CachingUserRepositoryTest {
+    
+    @Mock
+    private UserRepositoryImpl delegate;
+    
+    private CachingUserRepository repository;
+    
+    private User user;
+    
+    @BeforeEach
+    void setUp() {
+        repository = new CachingUserRepository(delegate, 100, 60);
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .name("Jorge Marquez")
+                .email("jorge@marquez.org")
+                .password("$2a$10$hash")
+                .phones(new ArrayList<>(List.of(new Phone("1234567", "1", "57"))))
+                .isactive(true)
+                .build();
+    }
+    
+    @Test
+    @DisplayName("Deberia resolver lecturas repetidas desde la cache con copias independientes")
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        when(delegate.findById(user.getId())).thenReturn(Optional.of(user));
+        
+        // When
+        User first = repository.findById(user.getId()).orElseThrow();
+        User second = repository.findById(user.getId()).orElseThrow();
+        User byEmail = repository.findByEmail(user.getEmail()).orElseThrow();
+        
+        // Then
+        verify(delegate, times(1)).findById(user.getId());
+        verify(delegate, never()).findByEmail(any());
+        assertNotSame(first, second);
+        assertNotSame(first.getPhones(), second.getPhones());
+        assertEquals(user.getEmail(), byEmail.getEmail());
+        assertFalse(first.isNew());
+        assertEquals(2, repository.getStatistics().hitCount());
+    }
+    
+    @Test
+    @DisplayName("Las modificaciones sobre la copia retornada no deberian afectar a la cache")
+    void shouldNotLeakMutationsIntoCache() {
+        // Given
+        when(delegate.findById(user.getId())).thenReturn(Optional.of(user));
+        User first = repository.findById(user.getId()).orElseThrow();
+        
+        // When
+        first.setName("Modificado");
+        first.getPhones().clear();
+        
+        // Then
+        User second = repository.findById(user.getId()).orElseThrow();
+        assertEquals("Jorge Marquez", second.getName());
+        assertEquals(1, second.getPhones().size());
+    }
+    
+    @Test
+    @DisplayName("Deberia invalidar ambos indices al guardar")
+    void shouldInvalidateOnSave() {
+        // Given
+        when(delegate.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(delegate.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        repository.findByEmail(user.getEmail());
+        
+        // When
+        repository.save(user);
+        repository.findByEmail(user.getEmail());
+        
+        // Then
+        verify(delegate, times(2)).findByEmail(user.getEmail());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.userapi.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmailExistenceFilter - Tests de Reconstruccion")
+class EmailExistenceFilterTest {
+
+    private Runnable duringStream = () -> { };
+
+    private EmailExistenceFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RegisteredEmailSource source = new RegisteredEmailSource() {
+            @Override
+            public long count() {
+                return 1;
+            }
+
+            @Override
+            public void forEachEmail(Consumer<String> action) {
+                action.accept("existente@correo.org");
+                duringStream.run();
+            }
+        };
+        filter = new EmailExistenceFilter(source);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "expectedInsertions", 1_000L);
+        ReflectionTestUtils.setField(filter, "falsePositiveRate", 0.01);
+    }
+
+    @Test
+    @DisplayName("Deberia conservar los emails guardados mientras se reconstruye el filtro")
+    void shouldKeepEmailsAddedDuringRebuild() {
+        // Given
+        filter.warmUp();
+        duringStream = () -> filter.add("Nuevo@Correo.org");
+
+        // When
+        filter.rebuild();
+
+        // Then
+        assertFalse(filter.isDefinitelyAbsent("existente@correo.org"));
+        assertFalse(filter.isDefinitelyAbsent("nuevo@correo.org"));
+    }
+
+    @Test
+    @DisplayName("Deberia conservar el filtro anterior si la reconstruccion falla")
+    void shouldKeepPreviousFilterWhenRebuildFails() {
+        // Given
+        filter.warmUp();
+        duringStream = () -> {
+            throw new IllegalStateException("conexion cerrada");
+        };
+
+        // When
+        filter.rebuild();
+        filter.add("otro@correo.org");
+
+        // Then
+        assertFalse(filter.isDefinitelyAbsent("existente@correo.org"));
+        assertFalse(filter.isDefinitelyAbsent("otro@correo.org"));
+    }
+}
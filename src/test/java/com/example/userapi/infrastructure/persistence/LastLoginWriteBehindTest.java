@@ -0,0 +1,125 @@
+package com.example.userapi.infrastructure.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.JDBCException;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.jdbc.Work;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LastLoginWriteBehind - Tests de Escritura Diferida")
+class LastLoginWriteBehindTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private StatelessSession session;
+
+    @Mock
+    private Transaction transaction;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private LastLoginWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        writeBehind = new LastLoginWriteBehind(entityManagerFactory, 2);
+    }
+
+    @Test
+    @DisplayName("Deberia agrupar los inicios de sesion por usuario y escribir solo el mas reciente")
+    void shouldCoalesceLoginsPerUser() throws SQLException {
+        // Given
+        givenWorkingSession();
+        UUID hotUser = UUID.randomUUID();
+        UUID otherUser = UUID.randomUUID();
+        LocalDateTime first = LocalDateTime.of(2025, 11, 1, 10, 0);
+        LocalDateTime latest = first.plusSeconds(5);
+        writeBehind.record(hotUser, first);
+        writeBehind.record(hotUser, latest);
+        writeBehind.record(hotUser, first.plusSeconds(1));
+        writeBehind.record(otherUser, first);
+
+        // When
+        writeBehind.flush();
+
+        // Then
+        verify(statement, times(2)).addBatch();
+        verify(statement).setObject(3, hotUser);
+        verify(statement).setTimestamp(1, Timestamp.valueOf(first));
+        verify(statement).setTimestamp(1, Timestamp.valueOf(latest));
+        verify(statement, times(1)).executeBatch();
+        verify(transaction).commit();
+        assertEquals(0, writeBehind.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Deberia conservar las entradas en el buffer cuando la escritura falla")
+    void shouldKeepPendingLoginsWhenWriteFails() throws SQLException {
+        // Given
+        givenWorkingSession();
+        when(statement.executeBatch()).thenThrow(new SQLException("lock timeout"));
+        writeBehind.record(UUID.randomUUID(), LocalDateTime.now());
+
+        // When
+        writeBehind.flush();
+
+        // Then
+        verify(transaction, never()).commit();
+        assertEquals(1, writeBehind.pendingCount());
+    }
+
+    @Test
+    @DisplayName("No deberia abrir una sesion cuando no hay inicios de sesion pendientes")
+    void shouldSkipFlushWhenBufferIsEmpty() {
+        // When
+        writeBehind.flush();
+
+        // Then
+        verifyNoInteractions(sessionFactory);
+    }
+
+    private void givenWorkingSession() throws SQLException {
+        when(sessionFactory.openStatelessSession()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(transaction);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        doAnswer(invocation -> {
+            Work work = invocation.getArgument(0);
+            try {
+                work.execute(connection);
+            } catch (SQLException ex) {
+                throw new JDBCException("Error al escribir last_login", ex);
+            }
+            return null;
+        }).when(session).doWork(any(Work.class));
+    }
+}
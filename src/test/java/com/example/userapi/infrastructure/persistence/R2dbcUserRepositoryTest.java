@@ -0,0 +1,134 @@
+package com.example.userapi.infrastructure.persistence;
+
+import com.example.userapi.domain.exception.BusinessException;
+import com.example.userapi.domain.model.Phone;
+import com.example.userapi.domain.model.User;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("R2dbcUserRepository - Tests del Adaptador R2DBC sobre H2")
+class R2dbcUserRepositoryTest {
+    
+    private DatabaseClient databaseClient;
+    private EmailExistenceFilter emailExistenceFilter;
+    private R2dbcUserRepository repository;
+    
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///r2dbc" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1");
+        databaseClient = DatabaseClient.create(connectionFactory);
+        databaseClient.sql("""
+                create table users (id uuid primary key, name varchar(255) not null,
+                    email varchar(255) not null, password varchar(255) not null,
+                    created timestamp not null, modified timestamp not null, last_login timestamp not null,
+                    isactive boolean not null, admin boolean default false not null,
+                    constraint uk_users_email unique (email))""").then().block();
+        databaseClient.sql("""
+                create table phones (id uuid primary key, user_id uuid not null, number varchar(255),
+                    citycode varchar(255), contrycode varchar(255))""").then().block();
+        
+        emailExistenceFilter = mock(EmailExistenceFilter.class);
+        repository = new R2dbcUserRepository(databaseClient,
+                TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory)), emailExistenceFilter);
+    }
+    
+    @Test
+    @DisplayName("Debería insertar el usuario con sus telefonos y encontrarlo por email")
+    void shouldSaveUserWithPhonesAndFindByEmail() {
+        // Given
+        User user = user("juan@rodriguez.org");
+        
+        // When & Then
+        StepVerifier.create(repository.save(user))
+                .expectNextMatches(saved -> saved.getCreated() != null && saved.getIsactive())
+                .verifyComplete();
+        StepVerifier.create(repository.existsByEmail("juan@rodriguez.org"))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(databaseClient.sql("select count(*) from phones where user_id = :id")
+                        .bind("id", user.getId())
+                        .map(row -> row.get(0, Long.class))
+                        .one())
+                .expectNext(2L)
+                .verifyComplete();
+        verify(emailExistenceFilter).add("juan@rodriguez.org");
+    }
+    
+    @Test
+    @DisplayName("Debería traducir el email duplicado a BusinessException y revertir los telefonos")
+    void shouldMapDuplicateEmailToBusinessException() {
+        // Given
+        repository.save(user("juan@rodriguez.org")).block();
+        User duplicate = user("juan@rodriguez.org");
+        
+        // When & Then
+        StepVerifier.create(repository.save(duplicate))
+                .expectErrorMatches(ex -> ex instanceof BusinessException
+                        && ex.getMessage().equals("El correo ya registrado"))
+                .verify();
+        StepVerifier.create(databaseClient.sql("select count(*) from phones where user_id = :id")
+                        .bind("id", duplicate.getId())
+                        .map(row -> row.get(0, Long.class))
+                        .one())
+                .expectNext(0L)
+                .verifyComplete();
+    }
+    
+    @Test
+    @DisplayName("Debería propagar las violaciones de integridad que no son del email")
+    void shouldPropagateOtherIntegrityViolations() {
+        // Given
+        User saved = repository.save(user("juan@rodriguez.org")).block();
+        User sameId = user("otro@rodriguez.org");
+        sameId.setId(saved.getId());
+        
+        // When & Then
+        StepVerifier.create(repository.save(sameId))
+                .expectError(DataIntegrityViolationException.class)
+                .verify();
+    }
+    
+    @Test
+    @DisplayName("Debería evitar la consulta cuando el filtro indica que el email es nuevo")
+    void shouldSkipQueryWhenFilterSaysAbsent() {
+        // Given
+        when(emailExistenceFilter.isDefinitelyAbsent("nuevo@correo.org")).thenReturn(true);
+        
+        // When & Then
+        StepVerifier.create(repository.existsByEmail("nuevo@correo.org"))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(repository.existsByEmail("otro@correo.org"))
+                .expectNext(false)
+                .verifyComplete();
+        verify(emailExistenceFilter).recordFalsePositive();
+    }
+    
+    private User user(String email) {
+        User user = User.builder()
+                .name("Juan Rodriguez")
+                .email(email)
+                .password("{bcrypt}hash")
+                .phones(new ArrayList<>(List.of(
+                        new Phone("1234567", "1", "57"),
+                        new Phone("7654321", "2", "57"))))
+                .build();
+        user.assignId();
+        return user;
+    }
+}
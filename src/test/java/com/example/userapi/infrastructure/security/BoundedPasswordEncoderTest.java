@@ -0,0 +1,88 @@
+package com.example.userapi.infrastructure.security;
+
+import com.example.userapi.domain.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoundedPasswordEncoder - Tests del Pool Acotado de Hashing")
+class BoundedPasswordEncoderTest {
+    
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+    
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+    
+    @Test
+    @DisplayName("Deberia delegar el hashing al encoder configurado")
+    void shouldDelegateEncoding() {
+        encoder = new BoundedPasswordEncoder(NoOpPasswordEncoder.getInstance(), 1, 1, 1000);
+        
+        assertEquals("Hunter22", encoder.encode("Hunter22"));
+        assertTrue(encoder.matches("Hunter22", "Hunter22"));
+    }
+    
+    @Test
+    @DisplayName("Deberia rechazar con ServiceOverloadedException cuando la cola esta llena")
+    void shouldRejectWhenQueueIsSaturated() throws Exception {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, 10_000);
+        
+        // Un hash en ejecucion y otro en cola ocupan toda la capacidad
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("Hunter22"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("Hunter22"));
+        waitUntil(() -> encoder.getActiveCount() == 1 && encoder.getQueueDepth() == 1);
+        
+        assertThrows(ServiceOverloadedException.class, () -> encoder.encode("Hunter22"));
+        
+        release.countDown();
+        assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash", queued.get(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    @DisplayName("Deberia rechazar cuando el hash supera el tiempo maximo de espera")
+    void shouldRejectOnTimeout() {
+        encoder = new BoundedPasswordEncoder(blockingEncoder(), 1, 1, 50);
+        
+        assertThrows(ServiceOverloadedException.class, () -> encoder.encode("Hunter22"));
+    }
+    
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+            
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+    }
+    
+    private void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
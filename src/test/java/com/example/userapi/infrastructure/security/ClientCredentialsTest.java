@@ -0,0 +1,45 @@
+package com.example.userapi.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ClientCredentials - Tests de Autenticacion de Clientes de Servicio")
+class ClientCredentialsTest {
+    
+    private final ClientCredentials clientCredentials =
+            new ClientCredentials(Map.of("gateway", "s3creto-gateway", "metrics", ""));
+    
+    @Test
+    @DisplayName("Deberia otorgar el rol del cliente con credenciales validas")
+    void shouldAuthenticateConfiguredClient() {
+        // When
+        Optional<String> role = clientCredentials.authenticate(basic("gateway", "s3creto-gateway"));
+        
+        // Then
+        assertEquals(Optional.of(ClientCredentials.ROLE_GATEWAY), role);
+    }
+    
+    @Test
+    @DisplayName("Deberia rechazar secretos incorrectos, clientes sin secreto y cabeceras que no son Basic")
+    void shouldRejectInvalidCredentials() {
+        // When & Then
+        assertTrue(clientCredentials.authenticate(basic("gateway", "otro")).isEmpty());
+        assertTrue(clientCredentials.authenticate(basic("metrics", "")).isEmpty());
+        assertTrue(clientCredentials.authenticate(basic("desconocido", "s3creto-gateway")).isEmpty());
+        assertTrue(clientCredentials.authenticate("Basic no-es-base64!").isEmpty());
+        assertTrue(clientCredentials.authenticate("Bearer eyJhbGciOiJIUzI1NiJ9.x.y").isEmpty());
+        assertTrue(clientCredentials.authenticate(null).isEmpty());
+    }
+    
+    private static String basic(String clientId, String secret) {
+        return "Basic " + Base64.getEncoder().encodeToString(
+                (clientId + ":" + secret).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.userapi.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.Signature;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FastJwtEncoder - Tests del Emisor Rapido de JWT")
+class FastJwtEncoderTest {
+
+    private static final SecretKey HMAC_KEY = Keys.hmacShaKeyFor(
+            "miClaveSecretaSuperSeguraParaJWT2025DebeSerLargaYCompleja".getBytes(StandardCharsets.UTF_8));
+    private static final String JTI = "3f2c1d7e-9a4b-4c6d-8e1f-0a2b3c4d5e6f";
+    private static final String USER_ID = "0b7e4c2a-1d3f-4a5b-9c8d-7e6f5a4b3c2d";
+    private static final long IAT = 1_760_000_000L;
+    private static final long EXP = IAT + 86_400L;
+
+    @Test
+    @DisplayName("Deberia producir exactamente el mismo token HMAC que el builder de jjwt")
+    void shouldMatchJjwtBuilderForHmac() {
+        // Given
+        FastJwtEncoder encoder = FastJwtEncoder.hmac(HMAC_KEY);
+        String expected = Jwts.builder()
+                .id(JTI)
+                .subject("jorge@marquez.org")
+                .issuedAt(new Date(IAT * 1000))
+                .expiration(new Date(EXP * 1000))
+                .claim(JwtTokenProvider.CLAIM_ROLES, List.of("USER"))
+                .claim(JwtTokenProvider.CLAIM_USER_ID, USER_ID)
+                .signWith(HMAC_KEY)
+                .compact();
+
+        // When
+        String token = encoder.encode(JTI, "jorge@marquez.org", IAT, EXP, List.of("USER"), USER_ID);
+
+        // Then
+        assertEquals(expected, token);
+    }
+
+    @Test
+    @DisplayName("Deberia firmar correctamente desde virtual threads concurrentes reutilizando el pool")
+    void shouldSignConcurrentlyFromVirtualThreads() throws Exception {
+        // Given
+        FastJwtEncoder encoder = FastJwtEncoder.hmac(HMAC_KEY);
+        String expected = encoder.encode(JTI, "jorge@marquez.org", IAT, EXP, List.of("USER"), USER_ID);
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            tasks.add(() -> encoder.encode(JTI, "jorge@marquez.org", IAT, EXP, List.of("USER"), USER_ID));
+        }
+
+        // When
+        List<Future<String>> tokens;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            tokens = executor.invokeAll(tasks);
+        }
+
+        // Then
+        for (Future<String> token : tokens) {
+            assertEquals(expected, token.get());
+        }
+    }
+
+    @Test
+    @DisplayName("Deberia omitir roles y uid cuando no se indican")
+    void shouldOmitOptionalClaims() {
+        // Given
+        FastJwtEncoder encoder = FastJwtEncoder.hmac(HMAC_KEY);
+        String expected = Jwts.builder()
+                .id(JTI)
+                .subject("jorge@marquez.org")
+                .issuedAt(new Date(IAT * 1000))
+                .expiration(new Date(EXP * 1000))
+                .signWith(HMAC_KEY)
+                .compact();
+
+        // When
+        String token = encoder.encode(JTI, "jorge@marquez.org", IAT, EXP, null, null);
+
+        // Then
+        assertEquals(expected, token);
+    }
+
+    @Test
+    @DisplayName("Deberia escapar el subject igual que jjwt")
+    void shouldEscapeSubject() {
+        // Given
+        FastJwtEncoder encoder = FastJwtEncoder.hmac(HMAC_KEY);
+        String subject = "jorge\"\\\n\u0001@marquez.org";
+        long expiration = System.currentTimeMillis() / 1000 + 60;
+
+        // When
+        String token = encoder.encode(JTI, subject, IAT, expiration, null, null);
+
+        // Then
+        Claims claims = Jwts.parser().verifyWith(HMAC_KEY).build().parseSignedClaims(token).getPayload();
+        assertEquals(subject, claims.getSubject());
+    }
+
+    @Test
+    @DisplayName("Deberia firmar con EdDSA el mismo payload que jjwt, con kid en el header")
+    void shouldMatchJjwtBuilderForEdDsa() throws Exception {
+        // Given
+        KeyPair keyPair = JwtKeyRing.generateKeyPair("EdDSA");
+        FastJwtEncoder encoder = FastJwtEncoder.asymmetric("2025-01", keyPair.getPrivate(), Jwts.SIG.EdDSA);
+        String expected = Jwts.builder()
+                .header().keyId("2025-01").and()
+                .id(JTI)
+                .subject("jorge@marquez.org")
+                .issuedAt(new Date(IAT * 1000))
+                .expiration(new Date(EXP * 1000))
+                .claim(JwtTokenProvider.CLAIM_ROLES, List.of("USER"))
+                .claim(JwtTokenProvider.CLAIM_USER_ID, USER_ID)
+                .signWith(keyPair.getPrivate(), Jwts.SIG.EdDSA)
+                .compact();
+
+        // When
+        String token = encoder.encode(JTI, "jorge@marquez.org", IAT, EXP, List.of("USER"), USER_ID);
+
+        // Then
+        String[] actualParts = token.split("\\.");
+        String[] expectedParts = expected.split("\\.");
+        ObjectMapper json = new ObjectMapper();
+        assertEquals(json.readTree(Base64.getUrlDecoder().decode(expectedParts[0])),
+                json.readTree(Base64.getUrlDecoder().decode(actualParts[0])));
+        assertEquals(expectedParts[1], actualParts[1]);
+        Signature verifier = Signature.getInstance("Ed25519");
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update((actualParts[0] + "." + actualParts[1]).getBytes(StandardCharsets.US_ASCII));
+        assertTrue(verifier.verify(Base64.getUrlDecoder().decode(actualParts[2])));
+    }
+
+    @Test
+    @DisplayName("Deberia emitir tokens ES256 verificables con la clave publica")
+    void shouldEmitVerifiableEs256Tokens() {
+        // Given
+        KeyPair keyPair = JwtKeyRing.generateKeyPair("ES256");
+        FastJwtEncoder encoder = FastJwtEncoder.asymmetric("2025-01", keyPair.getPrivate(), Jwts.SIG.ES256);
+        long expiration = System.currentTimeMillis() / 1000 + 60;
+
+        // When
+        String token = encoder.encode(JTI, "jorge@marquez.org", IAT, expiration, List.of("USER"), USER_ID);
+
+        // Then
+        var jws = Jwts.parser().verifyWith(keyPair.getPublic()).build().parseSignedClaims(token);
+        assertEquals("ES256", jws.getHeader().getAlgorithm());
+        assertEquals("2025-01", jws.getHeader().getKeyId());
+        assertEquals(JTI, jws.getPayload().getId());
+        assertEquals(USER_ID, jws.getPayload().get(JwtTokenProvider.CLAIM_USER_ID, String.class));
+        assertEquals(List.of("USER"), jws.getPayload().get(JwtTokenProvider.CLAIM_ROLES, List.class));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.userapi.infrastructure.security;
+
+import com.example.userapi.domain.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtAuthenticationFilter - Tests de Autenticacion Stateless")
+class JwtAuthenticationFilterTest {
+    
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter filter;
+    
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret",
+            "miClaveSecretaSuperSeguraParaJWT2025DebeSerLargaYCompleja");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationMs", 86400000L);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    @Test
+    @DisplayName("Deberia autenticar desde los claims del Bearer token")
+    void shouldAuthenticateFromBearerToken() throws Exception {
+        // Given
+        UUID userId = UUID.randomUUID();
+        User user = User.builder().id(userId).email("jorge@marquez.org").build();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + jwtTokenProvider.generateToken(user));
+        MockFilterChain chain = new MockFilterChain();
+        
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertTrue(authentication.isAuthenticated());
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        assertEquals(userId, principal.id());
+        assertEquals("jorge@marquez.org", principal.email());
+        assertTrue(authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_USER".equals(authority.getAuthority())));
+        assertNotNull(chain.getRequest());
+    }
+    
+    @Test
+    @DisplayName("Deberia continuar sin autenticar cuando el token es invalido")
+    void shouldNotAuthenticateWithInvalidToken() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer invalid.jwt.token");
+        MockFilterChain chain = new MockFilterChain();
+        
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        
+        // Then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(chain.getRequest());
+    }
+}
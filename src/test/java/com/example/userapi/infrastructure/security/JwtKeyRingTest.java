@@ -0,0 +1,81 @@
+package com.example.userapi.infrastructure.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtKeyRing - Tests de Claves de Firma y JWKS")
+class JwtKeyRingTest {
+
+    @TempDir
+    Path keysDir;
+
+    @Test
+    @DisplayName("Deberia firmar con la clave activa y verificar con las claves anteriores")
+    void shouldSignWithActiveKeyAndKeepRetiredPublicKeys() throws IOException {
+        // Given
+        KeyPair retired = JwtKeyRing.generateKeyPair("ES256");
+        KeyPair active = JwtKeyRing.generateKeyPair("EdDSA");
+        writePem(keysDir.resolve("2025-01.pub.pem"), "PUBLIC KEY", retired.getPublic());
+        writePem(keysDir.resolve("2025-02.pub.pem"), "PUBLIC KEY", active.getPublic());
+        writePem(keysDir.resolve("2025-02.key.pem"), "PRIVATE KEY", active.getPrivate());
+
+        // When
+        JwtKeyRing keyRing = JwtKeyRing.load(keysDir, "");
+
+        // Then
+        assertEquals("2025-02", keyRing.signingKey().kid());
+        assertEquals(Jwts.SIG.EdDSA, keyRing.signingKey().algorithm());
+        assertEquals(retired.getPublic(), keyRing.verificationKey("2025-01"));
+        assertEquals(active.getPublic(), keyRing.verificationKey("2025-02"));
+        assertNull(keyRing.verificationKey("desconocida"));
+    }
+
+    @Test
+    @DisplayName("Deberia publicar un JWKS con kid, curva y coordenadas de cada clave")
+    void shouldSerializeJwks() throws IOException {
+        // Given
+        JwtKeyRing keyRing = JwtKeyRing.generate("ES256");
+
+        // When
+        JsonNode jwks = new ObjectMapper().readTree(keyRing.jwks());
+
+        // Then
+        JsonNode key = jwks.get("keys").get(0);
+        assertEquals(keyRing.signingKey().kid(), key.get("kid").asText());
+        assertEquals("EC", key.get("kty").asText());
+        assertEquals("P-256", key.get("crv").asText());
+        assertEquals("ES256", key.get("alg").asText());
+        assertEquals(32, Base64.getUrlDecoder().decode(key.get("x").asText()).length);
+        assertEquals(32, Base64.getUrlDecoder().decode(key.get("y").asText()).length);
+        assertSame(keyRing.jwks(), keyRing.jwks());
+    }
+
+    @Test
+    @DisplayName("Deberia fallar si la clave activa no tiene clave privada")
+    void shouldFailWhenActiveKeyHasNoPrivateKey() throws IOException {
+        // Given
+        KeyPair keyPair = JwtKeyRing.generateKeyPair("ES256");
+        writePem(keysDir.resolve("solo-publica.pub.pem"), "PUBLIC KEY", keyPair.getPublic());
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> JwtKeyRing.load(keysDir, "solo-publica"));
+    }
+
+    private static void writePem(Path file, String type, Key key) throws IOException {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(key.getEncoded());
+        Files.writeString(file, "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n");
+    }
+}
@@ -1,10 +1,21 @@
 package com.example.userapi.infrastructure.security;
 
+import com.example.userapi.domain.model.User;
+import com.example.userapi.infrastructure.persistence.JpaRevokedTokenRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("JwtTokenProvider - Tests de Generación y Validación de JWT")
@@ -88,4 +99,166 @@ class JwtTokenProviderTest {
         // Then
         assertFalse(isValid);
     }
+    
+    @Test
+    @DisplayName("Deberia retornar los claims validados en una sola pasada")
+    void shouldParseClaimsInOnePass() {
+        // Given
+        String email = "jorge@marquez.org";
+        String token = jwtTokenProvider.generateToken(email);
+        
+        // When
+        Optional<Claims> first = jwtTokenProvider.parse(token);
+        Optional<Claims> cached = jwtTokenProvider.parse(token);
+        
+        // Then
+        assertTrue(first.isPresent());
+        assertEquals(email, first.get().getSubject());
+        assertNotNull(first.get().getExpiration());
+        assertEquals(email, cached.orElseThrow().getSubject());
+    }
+    
+    @Test
+    @DisplayName("Deberia rechazar un token alterado aunque el original este en cache")
+    void shouldRejectTamperedTokenAfterCachingOriginal() {
+        // Given
+        String token = jwtTokenProvider.generateToken("jorge@marquez.org");
+        assertTrue(jwtTokenProvider.validateToken(token));
+        
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        char replacement = signature.charAt(0) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, token.lastIndexOf('.') + 1) + replacement + signature.substring(1);
+        
+        // When & Then
+        assertFalse(jwtTokenProvider.validateToken(tampered));
+        assertTrue(jwtTokenProvider.parse(tampered).isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Deberia rechazar un token revocado aunque este en cache, sin afectar a otros tokens")
+    void shouldRejectRevokedToken() {
+        // Given
+        TokenRevocationStore revocationStore =
+                new TokenRevocationStore(Mockito.mock(JpaRevokedTokenRepository.class), 60);
+        ReflectionTestUtils.setField(jwtTokenProvider, "revocationStore", revocationStore);
+        String token = jwtTokenProvider.generateToken("jorge@marquez.org");
+        String other = jwtTokenProvider.generateToken("jorge@marquez.org");
+        assertTrue(jwtTokenProvider.validateToken(token));
+        
+        // When
+        boolean revoked = jwtTokenProvider.revoke(token);
+        
+        // Then
+        assertTrue(revoked);
+        assertFalse(jwtTokenProvider.validateToken(token));
+        assertFalse(jwtTokenProvider.revoke(token));
+        assertTrue(jwtTokenProvider.validateToken(other));
+        assertNotNull(jwtTokenProvider.parse(other).orElseThrow().getId());
+    }
+    
+    @Test
+    @DisplayName("Deberia firmar con clave asimetrica y kid, publicando la clave en el JWKS")
+    void shouldSignWithAsymmetricKeyAndKid() throws Exception {
+        // Given
+        JwtTokenProvider asymmetric = asymmetricProvider("EdDSA");
+        
+        // When
+        String token = asymmetric.generateToken("jorge@marquez.org");
+        
+        // Then
+        JsonNode header = new ObjectMapper().readTree(
+                Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        JsonNode jwk = new ObjectMapper().readTree(asymmetric.jwks()).get("keys").get(0);
+        assertEquals("EdDSA", header.get("alg").asText());
+        assertEquals(jwk.get("kid").asText(), header.get("kid").asText());
+        assertTrue(asymmetric.validateToken(token));
+    }
+    
+    @Test
+    @DisplayName("Deberia aceptar por defecto tokens HS256 sin kid durante la migracion y rechazar claves ajenas")
+    void shouldAcceptLegacyTokensByDefaultAndRejectForeignKeys() {
+        // Given
+        JwtTokenProvider asymmetric = asymmetricProvider("ES256");
+        String legacy = jwtTokenProvider.generateToken("jorge@marquez.org");
+        String foreign = asymmetricProvider("ES256").generateToken("jorge@marquez.org");
+        
+        // When & Then
+        assertTrue(asymmetric.validateToken(legacy));
+        assertFalse(asymmetric.validateToken(foreign));
+        assertFalse(jwtTokenProvider.validateToken(asymmetric.generateToken("jorge@marquez.org")));
+    }
+    
+    @Test
+    @DisplayName("Deberia rechazar tokens HS256 sin kid cuando la migracion se desactiva")
+    void shouldRejectLegacyTokensWhenMigrationIsDisabled() {
+        // Given
+        JwtTokenProvider asymmetric = asymmetricProvider("ES256");
+        ReflectionTestUtils.setField(asymmetric, "legacyHmacEnabled", false);
+        String legacy = jwtTokenProvider.generateToken("jorge@marquez.org");
+        
+        // When & Then
+        assertFalse(asymmetric.validateToken(legacy));
+        assertTrue(asymmetric.validateToken(asymmetric.generateToken("jorge@marquez.org")));
+    }
+    
+    @Test
+    @DisplayName("Deberia emitir con el emisor rapido los mismos claims que el builder de jjwt")
+    void shouldEmitSameClaimsWithFastPathAndBuilder() {
+        // Given
+        User user = User.builder().id(UUID.randomUUID()).email("jorge@marquez.org").build();
+        JwtTokenProvider builderProvider = asymmetricProvider("HS256");
+        ReflectionTestUtils.setField(builderProvider, "fastPathEnabled", false);
+        
+        // When
+        Claims fast = jwtTokenProvider.parse(jwtTokenProvider.generateToken(user)).orElseThrow();
+        Claims builder = jwtTokenProvider.parse(builderProvider.generateToken(user)).orElseThrow();
+        
+        // Then
+        assertEquals(List.copyOf(builder.keySet()), List.copyOf(fast.keySet()));
+        assertEquals(builder.getSubject(), fast.getSubject());
+        assertEquals(builder.get(JwtTokenProvider.CLAIM_USER_ID), fast.get(JwtTokenProvider.CLAIM_USER_ID));
+        assertEquals(builder.get(JwtTokenProvider.CLAIM_ROLES), fast.get(JwtTokenProvider.CLAIM_ROLES));
+        assertTrue(asymmetricProvider("ES256").validateToken(jwtTokenProvider.generateToken(user)));
+    }
+    
+    @Test
+    @DisplayName("Deberia otorgar el rol ADMIN solo a usuarios administradores")
+    void shouldGrantAdminRoleOnlyToAdministrators() {
+        // Given
+        User user = User.builder().id(UUID.randomUUID()).email("jorge@marquez.org").build();
+        User admin = User.builder().id(UUID.randomUUID()).email("admin@marquez.org").admin(true).build();
+        
+        // When
+        Claims userClaims = jwtTokenProvider.parse(jwtTokenProvider.generateToken(user)).orElseThrow();
+        Claims adminClaims = jwtTokenProvider.parse(jwtTokenProvider.generateToken(admin)).orElseThrow();
+        
+        // Then
+        assertEquals(List.of("USER"), userClaims.get(JwtTokenProvider.CLAIM_ROLES, List.class));
+        assertEquals(List.of("USER", JwtTokenProvider.ROLE_ADMIN), adminClaims.get(JwtTokenProvider.CLAIM_ROLES, List.class));
+    }
+    
+    @Test
+    @DisplayName("Deberia fallar por defecto al iniciar sin directorio de claves")
+    void shouldFailStartupWithoutKeysDirByDefault() {
+        // Given
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret",
+            "miClaveSecretaSuperSeguraParaJWT2025DebeSerLargaYCompleja");
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 86400000L);
+        ReflectionTestUtils.setField(provider, "signingAlgorithm", "ES256");
+        
+        // When & Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, provider::init);
+        assertTrue(exception.getMessage().contains("jwt.signing.keys-dir"));
+    }
+    
+    private static JwtTokenProvider asymmetricProvider(String algorithm) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret",
+            "miClaveSecretaSuperSeguraParaJWT2025DebeSerLargaYCompleja");
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 86400000L);
+        ReflectionTestUtils.setField(provider, "signingAlgorithm", algorithm);
+        ReflectionTestUtils.setField(provider, "allowEphemeralKey", true);
+        return provider;
+    }
 }
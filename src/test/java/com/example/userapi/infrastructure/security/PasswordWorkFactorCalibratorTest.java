@@ -0,0 +1,40 @@
+package com.example.userapi.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PasswordWorkFactorCalibrator - Tests de Calibracion del Costo de Hashing")
+class PasswordWorkFactorCalibratorTest {
+    
+    @Test
+    @DisplayName("Deberia mantener el strength configurado aunque el presupuesto permita subirlo")
+    void shouldNotRaiseStrengthWithoutOptIn() {
+        // When
+        int strength = PasswordWorkFactorCalibrator.calibrateBcryptStrength(60_000, 4, 4, 10, false);
+        
+        // Then
+        assertEquals(4, strength);
+    }
+    
+    @Test
+    @DisplayName("Deberia subir el strength solo con allow-increase, hasta el maximo")
+    void shouldRaiseStrengthWithOptIn() {
+        // When
+        int strength = PasswordWorkFactorCalibrator.calibrateBcryptStrength(60_000, 4, 4, 5, true);
+        
+        // Then
+        assertEquals(5, strength);
+    }
+    
+    @Test
+    @DisplayName("Deberia bajar el strength hasta el minimo cuando el configurado supera el presupuesto")
+    void shouldLowerStrengthDownToMinimumWhenOverBudget() {
+        // When
+        int strength = PasswordWorkFactorCalibrator.calibrateBcryptStrength(0, 4, 6, 10, false);
+        
+        // Then
+        assertEquals(4, strength);
+    }
+}
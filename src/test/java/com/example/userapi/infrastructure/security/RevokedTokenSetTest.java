@@ -0,0 +1,51 @@
+package com.example.userapi.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RevokedTokenSet - Tests de Expiracion por Intervalos")
+class RevokedTokenSetTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-01T10:00:30Z");
+
+    @Test
+    @DisplayName("Deberia conservar un jti hasta que termine el intervalo de su expiracion")
+    void shouldKeepJtiUntilItsBucketExpires() {
+        // Given
+        RevokedTokenSet revoked = new RevokedTokenSet(Duration.ofMinutes(1));
+        revoked.add("a", NOW.plusSeconds(10));
+
+        // When
+        int sweptBeforeExpiry = revoked.sweep(NOW.plusSeconds(11));
+        int sweptAfterBucket = revoked.sweep(NOW.plusSeconds(30));
+
+        // Then
+        assertEquals(0, sweptBeforeExpiry);
+        assertEquals(1, sweptAfterBucket);
+        assertFalse(revoked.contains("a"));
+    }
+
+    @Test
+    @DisplayName("Deberia barrer solo los intervalos expirados")
+    void shouldSweepOnlyExpiredBuckets() {
+        // Given
+        RevokedTokenSet revoked = new RevokedTokenSet(Duration.ofMinutes(1));
+        assertTrue(revoked.add("expirado", NOW.minusSeconds(120)));
+        assertTrue(revoked.add("vigente", NOW.plusSeconds(3600)));
+        assertFalse(revoked.add("vigente", NOW.plusSeconds(3600)));
+
+        // When
+        int swept = revoked.sweep(NOW);
+
+        // Then
+        assertEquals(1, swept);
+        assertFalse(revoked.contains("expirado"));
+        assertTrue(revoked.contains("vigente"));
+        assertEquals(1, revoked.size());
+    }
+}
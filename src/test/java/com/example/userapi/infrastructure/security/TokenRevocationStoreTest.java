@@ -0,0 +1,86 @@
+package com.example.userapi.infrastructure.security;
+
+import com.example.userapi.infrastructure.persistence.JpaRevokedTokenRepository;
+import com.example.userapi.infrastructure.persistence.RevokedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationStore - Tests de Revocacion y Sincronizacion")
+class TokenRevocationStoreTest {
+
+    @Mock
+    private JpaRevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationStore revocationStore;
+
+    @BeforeEach
+    void setUp() {
+        revocationStore = new TokenRevocationStore(revokedTokenRepository, 60);
+    }
+
+    @Test
+    @DisplayName("Deberia no marcar el token como revocado si el INSERT falla")
+    void shouldNotRevokeInMemoryWhenInsertFails() {
+        // Given
+        when(revokedTokenRepository.saveAndFlush(any(RevokedToken.class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // When & Then
+        assertThrows(QueryTimeoutException.class,
+                () -> revocationStore.revoke("jti-1", Instant.now().plusSeconds(3600)));
+        assertFalse(revocationStore.isRevoked("jti-1"));
+    }
+
+    @Test
+    @DisplayName("Deberia marcar el token como revocado si otra instancia ya lo registro")
+    void shouldRevokeInMemoryWhenAlreadyStored() {
+        // Given
+        when(revokedTokenRepository.saveAndFlush(any(RevokedToken.class)))
+                .thenThrow(new DataIntegrityViolationException("pk_revoked_tokens"));
+
+        // When
+        revocationStore.revoke("jti-1", Instant.now().plusSeconds(3600));
+
+        // Then
+        assertTrue(revocationStore.isRevoked("jti-1"));
+    }
+
+    @Test
+    @DisplayName("Deberia cargar todas las vigentes al arrancar y despues solo las posteriores a la marca de agua")
+    void shouldSynchronizeIncrementallyAfterFullLoad() {
+        // Given
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        when(revokedTokenRepository.findActive(any(Instant.class)))
+                .thenReturn(List.of(new RevokedToken("jti-1", expiresAt, Instant.now())));
+        when(revokedTokenRepository.findRevokedSince(any(Instant.class), any(Instant.class)))
+                .thenReturn(List.of(new RevokedToken("jti-2", expiresAt, Instant.now())));
+
+        // When
+        revocationStore.warmUp();
+        Instant afterWarmUp = Instant.now();
+        revocationStore.synchronize();
+
+        // Then
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        verify(revokedTokenRepository, times(1)).findActive(any(Instant.class));
+        verify(revokedTokenRepository).findRevokedSince(since.capture(), any(Instant.class));
+        assertTrue(since.getValue().isBefore(afterWarmUp));
+        assertTrue(revocationStore.isRevoked("jti-1"));
+        assertTrue(revocationStore.isRevoked("jti-2"));
+    }
+}
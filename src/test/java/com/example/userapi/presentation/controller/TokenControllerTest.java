@@ -0,0 +1,80 @@
+package com.example.userapi.presentation.controller;
+
+import com.example.userapi.application.dto.IntrospectTokensRequest;
+import com.example.userapi.application.dto.IntrospectTokensResponse;
+import com.example.userapi.application.dto.TokenIntrospectionResult;
+import com.example.userapi.application.usecase.IntrospectTokensUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TokenController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("TokenController - Tests de Integracion")
+class TokenControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @MockitoBean
+    private IntrospectTokensUseCase introspectTokensUseCase;
+    
+    @Test
+    @DisplayName("POST /api/tokens/introspect - Deberia retornar el resultado de cada token")
+    void shouldIntrospectTokens() throws Exception {
+        // Given
+        IntrospectTokensRequest request = IntrospectTokensRequest.builder()
+                .tokens(List.of("token.valido", "token.invalido"))
+                .build();
+        IntrospectTokensResponse response = IntrospectTokensResponse.builder()
+                .total(2)
+                .active(1)
+                .results(List.of(
+                        TokenIntrospectionResult.builder().index(0).active(true)
+                                .sub("jorge@marquez.org").exp(1_760_086_400L).build(),
+                        TokenIntrospectionResult.builder().index(1).active(false).build()))
+                .build();
+        when(introspectTokensUseCase.execute(List.of("token.valido", "token.invalido"))).thenReturn(response);
+        
+        // When & Then
+        mockMvc.perform(post("/api/tokens/introspect")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.active").value(1))
+                .andExpect(jsonPath("$.results[0].active").value(true))
+                .andExpect(jsonPath("$.results[0].sub").value("jorge@marquez.org"))
+                .andExpect(jsonPath("$.results[0].exp").value(1_760_086_400L))
+                .andExpect(jsonPath("$.results[1].active").value(false))
+                .andExpect(jsonPath("$.results[1].sub").doesNotExist());
+    }
+    
+    @Test
+    @DisplayName("POST /api/tokens/introspect - Deberia rechazar un lote vacio")
+    void shouldRejectEmptyBatch() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/tokens/introspect")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"tokens\":[]}"))
+                .andExpect(status().isBadRequest());
+        
+        verifyNoInteractions(introspectTokensUseCase);
+    }
+}